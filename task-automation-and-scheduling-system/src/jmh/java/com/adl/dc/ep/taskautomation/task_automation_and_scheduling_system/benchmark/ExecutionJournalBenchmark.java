@@ -0,0 +1,134 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.benchmark;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl.ExecutionJournalServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database round-trips per firing against an in-memory H2: every state change written
+ * on its own, as before the journal, versus buffered and flushed by the journal once per
+ * batch. H2 has no network hop, so against Postgres the gap only grows.
+ *
+ * Inserts go through a repository stub issuing one JDBC batch, as Hibernate does with
+ * hibernate.jdbc.batch_size set.
+ */
+@State(Scope.Thread)
+public class ExecutionJournalBenchmark {
+
+    private static final int FIRINGS = 50;
+    private static final int TASKS = 10;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_executions (id, task_id, start_time, end_time, status, error_message, result, attempt) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutionJournalServiceImpl journal;
+    private final AtomicLong ids = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:journal;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, last_executed_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE task_executions (id BIGINT PRIMARY KEY, task_id BIGINT NOT NULL, "
+                + "start_time TIMESTAMP NOT NULL, end_time TIMESTAMP, status VARCHAR(20) NOT NULL, "
+                + "error_message VARCHAR(5000), result VARCHAR(5000), attempt INT)");
+        for (long taskId = 0; taskId < TASKS; taskId++) {
+            jdbcTemplate.update("INSERT INTO tasks (id) VALUES (?)", taskId);
+        }
+
+        TaskExecutionRepository executionRepository = Stubs.of(TaskExecutionRepository.class, Map.of(
+                "saveAll", args -> {
+                    List<TaskExecution> batch = new ArrayList<>();
+                    ((Iterable<?>) args[0]).forEach(execution -> batch.add((TaskExecution) execution));
+                    batch.forEach(execution -> execution.setId(ids.incrementAndGet()));
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, execution) -> {
+                        ps.setLong(1, execution.getId());
+                        ps.setLong(2, execution.getTaskId());
+                        ps.setObject(3, execution.getStartTime());
+                        ps.setObject(4, execution.getEndTime());
+                        ps.setString(5, execution.getStatus().name());
+                        ps.setString(6, execution.getErrorMessage());
+                        ps.setString(7, execution.getResult());
+                        ps.setObject(8, execution.getAttempt());
+                    });
+                    return batch;
+                }));
+
+        // no flusher thread: the benchmark flushes once per batch itself
+        journal = new ExecutionJournalServiceImpl(executionRepository, jdbcTemplate,
+                new DataSourceTransactionManager(dataSource));
+        Stubs.setField(journal, "batchSize", FIRINGS);
+        Stubs.setField(journal, "maxPending", 10_000);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearExecutions() {
+        jdbcTemplate.execute("TRUNCATE TABLE task_executions");
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    private TaskExecution started(long taskId) {
+        TaskExecution execution = new TaskExecution();
+        execution.setTaskId(taskId);
+        execution.setStartTime(LocalDateTime.now());
+        execution.setStatus(ExecutionStatus.RUNNING);
+        execution.setAttempt(1);
+        return execution;
+    }
+
+    // insert RUNNING, update to the outcome and bump lastExecutedAt: three statements per firing
+    @Benchmark
+    @OperationsPerInvocation(FIRINGS)
+    public void statementPerStateChange() {
+        for (int i = 0; i < FIRINGS; i++) {
+            TaskExecution execution = started(i % TASKS);
+            execution.setId(ids.incrementAndGet());
+            jdbcTemplate.update(INSERT_SQL, execution.getId(), execution.getTaskId(), execution.getStartTime(),
+                    null, execution.getStatus().name(), null, null, execution.getAttempt());
+            LocalDateTime end = LocalDateTime.now();
+            jdbcTemplate.update("UPDATE task_executions SET end_time = ?, status = ?, error_message = ?, result = ? "
+                    + "WHERE id = ?", end, ExecutionStatus.SUCCESS.name(), null, "ok", execution.getId());
+            jdbcTemplate.update("UPDATE tasks SET last_executed_at = ? WHERE id = ?", end, execution.getTaskId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIRINGS)
+    public void journal() {
+        for (int i = 0; i < FIRINGS; i++) {
+            TaskExecution execution = started(i % TASKS);
+            journal.recordStarted(execution);
+            execution.setEndTime(LocalDateTime.now());
+            execution.setStatus(ExecutionStatus.SUCCESS);
+            execution.setResult("ok");
+            journal.recordFinished(execution);
+            journal.recordTaskExecuted(execution.getTaskId(), execution.getEndTime());
+        }
+        journal.flush();
+    }
+}
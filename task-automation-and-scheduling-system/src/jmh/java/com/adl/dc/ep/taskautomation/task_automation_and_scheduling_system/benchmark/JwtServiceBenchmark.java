@@ -0,0 +1,86 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.benchmark;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Token handling done by JwtAuthenticationFilter on every authenticated request.
+ *
+ * The legacy* benchmarks replay what the filter used to do (decode the key and build
+ * a parser per call, then parse the token once for the username and twice more in
+ * isTokenValid) so the validated-claims path can be compared against it.
+ */
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String secret;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secret = Base64.getEncoder().encodeToString("benchmark-signing-key-of-at-least-32-bytes".getBytes());
+        jwtService = new JwtService();
+        Stubs.setField(jwtService, "secretKey", secret);
+        Stubs.setField(jwtService, "jwtExpiration", 3_600_000L);
+        jwtService.init();
+
+        user = new User(7L, "bench", "bench@example.com", "secret", Role.USER, true, null, null);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    /**
+     * what the filter does per request now: one parse, then the user check on the claims.
+     */
+    @Benchmark
+    public boolean validatedClaims() {
+        Claims claims = jwtService.extractValidClaims(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyClaims().getSubject();
+        return username.equals(user.getUsername())
+                && legacyClaims().getSubject().equals(user.getUsername())
+                && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    private Claims legacyClaims() {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
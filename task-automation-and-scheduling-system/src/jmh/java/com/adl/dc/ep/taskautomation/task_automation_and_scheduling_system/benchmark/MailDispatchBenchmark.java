@@ -0,0 +1,81 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.benchmark;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl.MailDispatchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+
+/**
+ * A burst of notifications against a local SMTP server: one session per message, as
+ * EmailServiceImpl used to send, versus queued and sent over the dispatcher's pooled
+ * sessions. Loopback has no TLS or network latency, so against a real relay the gap only grows.
+ */
+@State(Scope.Thread)
+public class MailDispatchBenchmark {
+
+    private static final int MESSAGES = 100;
+
+    private FakeSmtpServer smtp;
+    private JavaMailSenderImpl mailSender;
+    private MailDispatchServiceImpl dispatcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+
+        dispatcher = new MailDispatchServiceImpl(mailSender, new SimpleMeterRegistry());
+        Stubs.setField(dispatcher, "connections", 2);
+        Stubs.setField(dispatcher, "batchSize", 50);
+        Stubs.setField(dispatcher, "queueCapacity", 10_000);
+        Stubs.setField(dispatcher, "enqueueTimeoutMs", 100L);
+        Stubs.setField(dispatcher, "idleTimeoutMs", 30_000L);
+        Stubs.setField(dispatcher, "shutdownTimeoutMs", 10_000L);
+        dispatcher.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dispatcher.stop();
+        smtp.close();
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@test.com");
+        message.setTo("user" + i + "@test.com");
+        message.setSubject("Task Executed: " + i);
+        message.setText("Your scheduled task has been executed successfully.");
+        return message;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void sessionPerMessage() {
+        for (int i = 0; i < MESSAGES; i++) {
+            mailSender.send(message(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void pooledSessions() throws InterruptedException {
+        int target = smtp.messages() + MESSAGES;
+        for (int i = 0; i < MESSAGES; i++) {
+            dispatcher.dispatch(message(i));
+        }
+        while (smtp.messages() < target) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.benchmark;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.ExecutionLanes;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.OutboundRateLimiter;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.RetryPolicy;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.TaskExecutionJob;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.TaskExecutionMetrics;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.EmailService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionJournalService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.WeatherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One firing of TaskExecutionJob with every collaborator stubbed out, i.e. the cost
+ * the job itself adds on top of the database, SMTP and HTTP.
+ */
+@State(Scope.Thread)
+public class TaskExecutionJobBenchmark {
+
+    private static final long TASK_ID = 42L;
+    private static final long USER_ID = 7L;
+
+    @Param({"DATA_SYNC", "EMAIL", "HTTP_REQUEST", "WEATHER"})
+    public String taskType;
+
+    private TaskExecutionJob job;
+    private JobExecutionContext context;
+
+    @Setup
+    public void setUp() {
+        TaskType type = TaskType.valueOf(taskType);
+        Task task = new Task();
+        task.setId(TASK_ID);
+        task.setUserId(USER_ID);
+        task.setName("benchmark task");
+        task.setCronExpression("0 0/5 * * * ?");
+        task.setTaskType(type);
+        task.setStatus(TaskStatus.ACTIVE);
+        task.setActionPayload(switch (type) {
+            case HTTP_REQUEST -> "https://example.com/health";
+            case WEATHER -> "Colombo";
+            default -> null;
+        });
+
+        OpenWeatherResponseDto.Main main = new OpenWeatherResponseDto.Main();
+        main.setTemp(29.5);
+        OpenWeatherResponseDto.Weather condition = new OpenWeatherResponseDto.Weather();
+        condition.setDescription("clear sky");
+        OpenWeatherResponseDto weather = new OpenWeatherResponseDto();
+        weather.setMain(main);
+        weather.setWeather(List.of(condition));
+
+        Optional<Task> cachedTask = Optional.of(task);
+        Optional<String> ownerEmail = Optional.of("owner@example.com");
+        TaskCacheService taskCache = Stubs.of(TaskCacheService.class, Map.of(
+                "getTask", args -> cachedTask,
+                "getUserEmail", args -> ownerEmail));
+        HttpService httpService = Stubs.of(HttpService.class, Map.of(
+                "getForString", args -> "{\"status\":\"UP\"}"));
+        WeatherService weatherService = Stubs.of(WeatherService.class, Map.of(
+                "getCurrentWeather", args -> weather));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RetryPolicy retryPolicy = new RetryPolicy();
+        Stubs.setField(retryPolicy, "defaultMaxAttempts", 1);
+        Stubs.setField(retryPolicy, "retryableExceptions", new Class<?>[0]);
+        job = new TaskExecutionJob(taskCache,
+                Stubs.of(ExecutionJournalService.class, Map.of()),
+                Stubs.of(EmailService.class, Map.of()),
+                httpService,
+                weatherService,
+                Stubs.of(ExecutionEventService.class, Map.of()),
+                new ExecutionLanes(new StandardEnvironment(), meterRegistry),
+                retryPolicy,
+                new OutboundRateLimiter(meterRegistry),
+                new TaskExecutionMetrics(meterRegistry));
+
+        JobDataMap dataMap = new JobDataMap();
+        dataMap.put("taskId", String.valueOf(TASK_ID));
+        dataMap.put("taskType", type.name());
+        dataMap.put("actionPayload", task.getActionPayload() != null ? task.getActionPayload() : "");
+        dataMap.put("userId", String.valueOf(USER_ID));
+        context = Stubs.of(JobExecutionContext.class, Map.of("getMergedJobDataMap", args -> dataMap));
+    }
+
+    @Benchmark
+    public JobExecutionContext execute() throws JobExecutionException {
+        job.execute(context);
+        return context;
+    }
+}
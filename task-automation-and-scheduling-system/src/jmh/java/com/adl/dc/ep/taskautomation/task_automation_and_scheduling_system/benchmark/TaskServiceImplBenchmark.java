@@ -0,0 +1,107 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.benchmark;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.FireTimeForecastService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.Scheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TaskServiceImpl without a database or scheduler behind it: building the Quartz job
+ * and cron trigger on create, and mapping a page of entities to responses on list.
+ */
+@State(Scope.Thread)
+public class TaskServiceImplBenchmark {
+
+    private static final long USER_ID = 7L;
+
+    @Param({"100"})
+    public int tasksPerUser;
+
+    private TaskServiceImpl taskService;
+    private TaskRequest request;
+
+    @Setup
+    public void setUp() {
+        AtomicLong ids = new AtomicLong();
+        List<Task> userTasks = new ArrayList<>(tasksPerUser);
+        for (int i = 0; i < tasksPerUser; i++) {
+            Task task = new Task();
+            task.setId(ids.incrementAndGet());
+            task.setUserId(USER_ID);
+            task.setName("task " + i);
+            task.setDescription("benchmark task " + i);
+            task.setCronExpression("0 0/5 * * * ?");
+            task.setTaskType(TaskType.HTTP_REQUEST);
+            task.setActionPayload("https://example.com/" + i);
+            task.setStatus(TaskStatus.ACTIVE);
+            task.setCreatedAt(LocalDateTime.now());
+            userTasks.add(task);
+        }
+
+        TaskRepository taskRepository = Stubs.of(TaskRepository.class, Map.of(
+                "save", args -> {
+                    Task task = (Task) args[0];
+                    task.setId(ids.incrementAndGet());
+                    return task;
+                },
+                "findByUserIdAndIdGreaterThanOrderByIdAsc", args -> userTasks));
+
+        taskService = new TaskServiceImpl(taskRepository,
+                Stubs.of(Scheduler.class, Map.of()),
+                Stubs.of(TaskCacheService.class, Map.of()),
+                new CronSmearing(),
+                Stubs.of(FireTimeForecastService.class, Map.of()));
+        Stubs.setField(taskService, "maxPageSize", 500);
+
+        request = new TaskRequest();
+        request.setName("benchmark task");
+        request.setDescription("created by the benchmark");
+        request.setCronExpression("0 0/5 * * * ?");
+        request.setTaskType(TaskType.HTTP_REQUEST);
+        request.setActionPayload("https://example.com/health");
+
+        // thread-scoped state is set up on the benchmark thread, where the service reads the principal
+        User user = new User(USER_ID, "bench", "bench@example.com", "secret", Role.USER, true, null, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public TaskResponse createTask() {
+        return taskService.createTask(request);
+    }
+
+    @Benchmark
+    public TaskPageResponse getUserTaskPage() {
+        return taskService.getUserTaskPage(null, tasksPerUser, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors for {@code @Async} work, so Quartz worker threads hand off notifications
+ * and return instead of waiting on SMTP.
+ *
+ * The notification executor is bounded. When its queue is full the submitting thread
+ * runs the notification itself, which slows the scheduler down rather than losing
+ * mail. Queued notifications are drained on shutdown for up to
+ * {@code await-termination-seconds}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    @Value("${notification.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${notification.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${notification.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${notification.executor.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.setTaskDecorator(timed(meterRegistry));
+
+        Gauge.builder("notification.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Notifications waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("notification.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Notifications being sent")
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * records how long a notification waited in the queue and how long it took to build
+     * and hand to the mail dispatcher; SMTP latency itself is {@code notification.send},
+     * recorded by MailDispatchServiceImpl.
+     */
+    static TaskDecorator timed(MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("notification.queue.wait")
+                .description("Time between submitting a notification and a thread picking it up")
+                .register(meterRegistry);
+        Timer handoff = Timer.builder("notification.handoff")
+                .description("Time to build a notification and hand it to the mail dispatcher")
+                .register(meterRegistry);
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    handoff.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.quartz.SchedulerException;
+import org.quartz.spi.InstanceIdGenerator;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Instance id generator used when {@code instanceId} is AUTO.
+ *
+ * Inside a container the host name alone is used, so a restarted replica comes back
+ * with the same id and recovers its own in-flight jobs immediately, instead of waiting
+ * for another node to detect it as failed after the cluster check-in interval.
+ * Everywhere else the process id is appended, because login shells export
+ * {@code HOSTNAME} too and several nodes on one machine must never share an id.
+ * Set {@code useHostname} to force the bare host name outside a recognised container.
+ */
+public class ClusterInstanceIdGenerator implements InstanceIdGenerator {
+
+    static final String HOSTNAME_ENV = "HOSTNAME";
+    static final String KUBERNETES_ENV = "KUBERNETES_SERVICE_HOST";
+    private static final Path[] CONTAINER_MARKERS = {Path.of("/.dockerenv"), Path.of("/run/.containerenv")};
+
+    private final UnaryOperator<String> env;
+    private final BooleanSupplier containerMarkerPresent;
+    private boolean useHostname;
+
+    public ClusterInstanceIdGenerator() {
+        this(System::getenv, ClusterInstanceIdGenerator::hasContainerMarker);
+    }
+
+    ClusterInstanceIdGenerator(UnaryOperator<String> env, BooleanSupplier containerMarkerPresent) {
+        this.env = env;
+        this.containerMarkerPresent = containerMarkerPresent;
+    }
+
+    /**
+     * Set by Quartz from {@code org.quartz.scheduler.instanceIdGenerator.useHostname}.
+     */
+    public void setUseHostname(boolean useHostname) {
+        this.useHostname = useHostname;
+    }
+
+    @Override
+    public String generateInstanceId() throws SchedulerException {
+        String host = trimToNull(env.apply(HOSTNAME_ENV));
+        if (host != null && (useHostname || inContainer())) {
+            return host;
+        }
+
+        if (host == null) {
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                throw new SchedulerException("Couldn't get host name to build the scheduler instance id", e);
+            }
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    private boolean inContainer() {
+        return trimToNull(env.apply(KUBERNETES_ENV)) != null || containerMarkerPresent.getAsBoolean();
+    }
+
+    private static boolean hasContainerMarker() {
+        for (Path marker : CONTAINER_MARKERS) {
+            if (Files.exists(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,60 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves id sequences past the ids already in their table.
+ *
+ * Tables that used identity columns before switching to pooled sequences already
+ * hold rows, while the sequence created by the schema update starts at 1. The
+ * sequence is only moved forward when it is behind, so a node starting while others
+ * are allocating ids never winds it back.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // must match allocationSize on the entity's @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    // table -> sequence
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "tasks", "tasks_seq",
+            "task_executions", "task_executions_seq"
+    );
+
+    private static final String ALIGN_SQL = """
+            SELECT setval('%2$s', m.max_id + %3$d)
+            FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM %1$s) m
+            WHERE m.max_id >= (SELECT last_value FROM %2$s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                if (!jdbcTemplate.queryForList(ALIGN_SQL.formatted(table, sequence, ALLOCATION_SIZE)).isEmpty()) {
+                    logger.info("Moved sequence {} past the existing ids in {}", sequence, table);
+                }
+            } catch (DataAccessException e) {
+                logger.warn("Couldn't align sequence {} with table {}: {}", sequence, table, e.getMessage());
+            }
+        });
+    }
+}
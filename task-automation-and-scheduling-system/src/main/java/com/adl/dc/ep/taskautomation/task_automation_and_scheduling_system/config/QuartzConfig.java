@@ -1,9 +1,66 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.ExecutionHistoryMaintenanceJob;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 
 @Configuration
 public class QuartzConfig {
-    // No explicit SchedulerFactoryBean – Spring Boot uses application.yaml
+    // No explicit SchedulerFactoryBean – Spring Boot uses application.yaml and registers
+    // the JobDetail / Trigger beans below with the scheduler
+
+    private static final String SCHEDULER_BEAN = "quartzScheduler";
+
+    // beans a firing still writes to while the scheduler waits for running jobs on shutdown
+    private static final String[] OUTLIVE_SCHEDULER = {"executionJournalServiceImpl"};
+
+    /**
+     * beans are destroyed before the beans they depend on, so making the scheduler depend
+     * on the journal keeps the journal up until the last job has finished.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor schedulerShutdownOrder() {
+        return beanFactory -> {
+            if (!beanFactory.containsBeanDefinition(SCHEDULER_BEAN)) {
+                return;
+            }
+            BeanDefinition scheduler = beanFactory.getBeanDefinition(SCHEDULER_BEAN);
+            String[] dependsOn = scheduler.getDependsOn() != null ? scheduler.getDependsOn() : new String[0];
+            scheduler.setDependsOn(Stream.concat(Arrays.stream(dependsOn), Arrays.stream(OUTLIVE_SCHEDULER))
+                    .distinct()
+                    .toArray(String[]::new));
+        };
+    }
+
+    @Bean
+    public JobDetail executionHistoryMaintenanceJobDetail() {
+        return JobBuilder.newJob(ExecutionHistoryMaintenanceJob.class)
+                .withIdentity("execution-history-maintenance", "system-jobs")
+                .withDescription("Execution history partitions, rollups and retention")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger executionHistoryMaintenanceTrigger(
+            JobDetail executionHistoryMaintenanceJobDetail,
+            @Value("${execution-history.maintenance-cron:0 5 * * * ?}") String cron) {
+        return TriggerBuilder.newTrigger()
+                .forJob(executionHistoryMaintenanceJobDetail)
+                .withIdentity("execution-history-maintenance", "system-triggers")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
 }
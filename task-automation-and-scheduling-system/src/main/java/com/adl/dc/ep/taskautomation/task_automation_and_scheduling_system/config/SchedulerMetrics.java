@@ -0,0 +1,50 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saturation of this node's Quartz thread pool. When {@code quartz.jobs.executing}
+ * sits at {@code quartz.threads.max}, due triggers wait for a free thread and show up
+ * as fire lag (task.fire.lag) and, past the misfire threshold, as missed runs.
+ */
+@Component
+public class SchedulerMetrics implements MeterBinder {
+
+    private final Scheduler scheduler;
+
+    public SchedulerMetrics(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("quartz.threads.max", this, SchedulerMetrics::poolSize)
+                .description("Jobs this node can run at once (threadCount)")
+                .register(meterRegistry);
+        Gauge.builder("quartz.jobs.executing", this, SchedulerMetrics::executing)
+                .description("Jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    private double poolSize() {
+        try {
+            return scheduler.getMetaData().getThreadPoolSize();
+        } catch (SchedulerException e) {
+            return Double.NaN;
+        }
+    }
+
+    private double executing() {
+        try {
+            // the running jobs of this scheduler instance, read from memory rather than the job store
+            return scheduler.getCurrentlyExecutingJobs().size();
+        } catch (SchedulerException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,6 +28,12 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, UserDetailsService userDetailsService) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.userDetailsService = userDetailsService;
@@ -44,6 +52,10 @@ public class SecurityConfig {
                         ).permitAll()
                         //  auth endpoints public
                         .requestMatchers("/api/auth/**").permitAll()
+                        //  liveness probes
+                        .requestMatchers("/actuator/health").permitAll()
+                        //  the Prometheus scrape has no JWT, so it is only open on the management listener
+                        .requestMatchers(this::isScrapeOnManagementPort).permitAll()
                         //  everything else JWT
                         .anyRequest().authenticated()
                 )
@@ -56,6 +68,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // with management sharing the API port the scrape would be public, so it then needs a JWT like the rest
+    boolean isScrapeOnManagementPort(HttpServletRequest request) {
+        return managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
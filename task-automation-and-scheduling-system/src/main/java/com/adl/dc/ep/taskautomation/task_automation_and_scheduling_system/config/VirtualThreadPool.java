@@ -0,0 +1,170 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quartz thread pool that runs every job on its own virtual thread.
+ *
+ * Jobs spend most of their time blocked on JPA, SMTP and HTTP calls, so a virtual
+ * thread per firing lets many of them be in flight without a platform thread each.
+ * {@code threadCount} is kept as the property name so the pool class can be swapped
+ * with {@link org.quartz.simpl.SimpleThreadPool} without touching the rest of the
+ * configuration; here it caps how many jobs run concurrently.
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    // how often a wait for a free slot looks at the shutdown flag, as SimpleThreadPool does
+    private static final long SHUTDOWN_CHECK_MS = 500;
+
+    private int threadCount = 10;
+    private String threadNamePrefix;
+    private String schedulerInstanceName;
+
+    private Semaphore permits;
+    private ExecutorService executor;
+    private volatile boolean shutdown;
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null || shutdown) {
+            return false;
+        }
+
+        if (!acquire()) {
+            return false;
+        }
+
+        if (shutdown) {
+            permits.release();
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            logger.warn("Virtual thread pool rejected a job after shutdown");
+            return false;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        // wait for at least one free slot, then hand it straight back
+        if (!acquire()) {
+            return 0;
+        }
+        permits.release();
+        return shutdown ? 0 : permits.availablePermits();
+    }
+
+    // false once the pool shuts down, so a full pool can't keep the scheduler thread from seeing the halt
+    private boolean acquire() {
+        try {
+            while (!shutdown) {
+                if (permits.tryAcquire(SHUTDOWN_CHECK_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+
+        String prefix = threadNamePrefix != null ? threadNamePrefix : schedulerInstanceName + "_Worker-";
+        permits = new Semaphore(threadCount);
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory());
+
+        logger.info("Virtual thread pool initialized | maxConcurrency={}", threadCount);
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        if (executor == null) {
+            return;
+        }
+
+        if (!waitForJobsToComplete) {
+            executor.shutdownNow();
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.debug("Waiting for {} running job(s) to complete", getActiveCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    /**
+     * Number of jobs currently running on the pool.
+     */
+    public int getActiveCount() {
+        return permits != null ? threadCount - permits.availablePermits() : 0;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // thread names only use the scheduler name
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.schedulerInstanceName = schedName;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public void setThreadPriority(int threadPriority) {
+        // virtual threads always run at Thread.NORM_PRIORITY; accepted for SimpleThreadPool compatibility
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+}
@@ -0,0 +1,118 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ApiResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CapacityForecast;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CircuitBreakerStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramReport;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ForecastResolution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CircuitBreakerService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CronSmearingService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.FireTimeForecastService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl.UserServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasAuthority('ADMIN')")
+@Tag(name = "Administration", description = "Operator APIs, ADMIN role only")
+public class AdminController {
+
+    private final UserServiceImpl userService;
+    private final CircuitBreakerService circuitBreakerService;
+    private final CronSmearingService cronSmearingService;
+    private final FireTimeForecastService fireTimeForecastService;
+
+    public AdminController(UserServiceImpl userService, CircuitBreakerService circuitBreakerService,
+                           CronSmearingService cronSmearingService,
+                           FireTimeForecastService fireTimeForecastService) {
+        this.userService = userService;
+        this.circuitBreakerService = circuitBreakerService;
+        this.cronSmearingService = cronSmearingService;
+        this.fireTimeForecastService = fireTimeForecastService;
+    }
+
+    @Operation(
+            summary = "Disable a user",
+            description = "Disables the user and rejects their outstanding tokens."
+    )
+    @PostMapping("/users/{id}/disable")
+    public ResponseEntity<ApiResponse> disableUser(@PathVariable Long id) {
+        userService.setEnabled(id, false);
+        return ResponseEntity.ok(new ApiResponse(true, "User disabled successfully", null));
+    }
+
+    @Operation(
+            summary = "Enable a user",
+            description = "Re-enables a previously disabled user."
+    )
+    @PostMapping("/users/{id}/enable")
+    public ResponseEntity<ApiResponse> enableUser(@PathVariable Long id) {
+        userService.setEnabled(id, true);
+        return ResponseEntity.ok(new ApiResponse(true, "User enabled successfully", null));
+    }
+
+    @Operation(
+            summary = "List circuit breakers",
+            description = "State and recent failure rate of the circuit breaker of every host HTTP tasks called "
+                    + "recently on this node."
+    )
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<ApiResponse> getCircuitBreakers() {
+        List<CircuitBreakerStatus> statuses = circuitBreakerService.getStatuses();
+        return ResponseEntity.ok(new ApiResponse(true, "Circuit breakers retrieved successfully", statuses));
+    }
+
+    @Operation(
+            summary = "Reset a circuit breaker",
+            description = "Closes the host's breaker on this node so calls to it go through again."
+    )
+    @PostMapping("/circuit-breakers/{host}/reset")
+    public ResponseEntity<ApiResponse> resetCircuitBreaker(@PathVariable String host) {
+        if (!circuitBreakerService.reset(host)) {
+            throw new ResourceNotFoundException("No circuit breaker for host " + host);
+        }
+        return ResponseEntity.ok(new ApiResponse(true, "Circuit breaker reset successfully", null));
+    }
+
+    @Operation(
+            summary = "Project the firing histogram",
+            description = "Per-second firing counts of all active tasks over the next hours, with their crons "
+                    + "as written and with smearing applied, whether or not smearing is enabled."
+    )
+    @GetMapping("/smearing/histogram")
+    public ResponseEntity<ApiResponse> getFiringHistogram(@RequestParam(defaultValue = "1") int hours) {
+        FiringHistogramReport report = cronSmearingService.getFiringHistogram(hours);
+        return ResponseEntity.ok(new ApiResponse(true, "Firing histogram projected successfully", report));
+    }
+
+    @Operation(
+            summary = "Apply cron smearing",
+            description = "Reschedules the triggers of existing tasks to match the current smearing setting."
+    )
+    @PostMapping("/smearing/apply")
+    public ResponseEntity<ApiResponse> applySmearing() {
+        int rescheduled = cronSmearingService.applyToScheduledTasks();
+        return ResponseEntity.ok(new ApiResponse(true, rescheduled + " triggers rescheduled", rescheduled));
+    }
+
+    @Operation(
+            summary = "Forecast task executions",
+            description = "Projected executions of all active tasks per second or minute over the next hours, "
+                    + "with their peaks and the concurrency they imply at the average execution time, "
+                    + "for sizing the Quartz thread count and connection pool ahead of them."
+    )
+    @GetMapping("/capacity/forecast")
+    public ResponseEntity<ApiResponse> getCapacityForecast(
+            @RequestParam(defaultValue = "1") int hours,
+            @RequestParam(defaultValue = "MINUTE") ForecastResolution resolution) {
+        CapacityForecast forecast = fireTimeForecastService.getForecast(hours, resolution);
+        return ResponseEntity.ok(new ApiResponse(true, "Capacity forecast computed successfully", forecast));
+    }
+}
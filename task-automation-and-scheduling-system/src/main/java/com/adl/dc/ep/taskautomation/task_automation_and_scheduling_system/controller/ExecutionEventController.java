@@ -0,0 +1,36 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Events", description = "Live updates over Server-Sent Events")
+public class ExecutionEventController {
+
+    private final ExecutionEventService executionEventService;
+
+    public ExecutionEventController(ExecutionEventService executionEventService) {
+        this.executionEventService = executionEventService;
+    }
+
+    @Operation(
+            summary = "Stream task executions",
+            description = "Pushes an 'execution' event each time one of the logged-in user's tasks starts (RUNNING) "
+                    + "or finishes (SUCCESS, FAILED, CIRCUIT_OPEN); both events of one run share a fireInstanceId. "
+                    + "A 'dropped' event carries the number of events missed "
+                    + "because the client fell behind; reload from /api/tasks/{id}/executions when it arrives."
+    )
+    @GetMapping(value = "/executions", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExecutions(@AuthenticationPrincipal User user) {
+        return executionEventService.subscribe(user.getId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Streaming NDJSON exports for reporting")
+public class ExportController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(
+            summary = "Export tasks",
+            description = "Streams all tasks of the logged-in user, one JSON object per line."
+    )
+    @GetMapping("/tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@AuthenticationPrincipal User user) {
+        // resolved here, the body is written on an async thread
+        Long userId = user.getId();
+        // claimed up front so a full house is a 429 rather than a 200 that stalls
+        ExportService.Slot slot = exportService.acquireSlot();
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(out -> {
+                    try (slot) {
+                        exportService.exportTasks(userId, out);
+                    }
+                });
+    }
+
+    @Operation(
+            summary = "Export execution history",
+            description = "Streams executions of the logged-in user's tasks, one JSON object per line, "
+                    + "optionally for one task and a start time range [from, to)."
+    )
+    @GetMapping("/executions")
+    public ResponseEntity<StreamingResponseBody> exportExecutions(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Long userId = user.getId();
+        ExportService.Slot slot = exportService.acquireSlot();
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(out -> {
+                    try (slot) {
+                        exportService.exportExecutions(userId, taskId, from, to, out);
+                    }
+                });
+    }
+}
@@ -2,16 +2,28 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.contr
 
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ApiResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskResult;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskUpdateItem;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionRollupResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskExecutionService;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,9 +32,11 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExecutionService taskExecutionService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExecutionService taskExecutionService) {
         this.taskService = taskService;
+        this.taskExecutionService = taskExecutionService;
     }
 
     @Operation(
@@ -36,6 +50,43 @@ public class TaskController {
                 .body(new ApiResponse(true, "Task created successfully", task));
     }
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates up to task-bulk.max-items tasks in one batch and schedules them together. "
+                    + "Returns one result per item; invalid items are skipped and reported."
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> bulkCreateTasks(@RequestBody List<TaskRequest> requests) {
+        List<BulkTaskResult> results = taskService.bulkCreateTasks(requests);
+        return ResponseEntity.ok(new ApiResponse(true, bulkMessage("created", results), results));
+    }
+
+    @Operation(
+            summary = "Update tasks in bulk",
+            description = "Updates up to task-bulk.max-items tasks and reschedules them together. "
+                    + "Returns one result per item; unknown ids and invalid items are skipped and reported."
+    )
+    @PutMapping("/bulk")
+    public ResponseEntity<ApiResponse> bulkUpdateTasks(@RequestBody List<BulkTaskUpdateItem> items) {
+        List<BulkTaskResult> results = taskService.bulkUpdateTasks(items);
+        return ResponseEntity.ok(new ApiResponse(true, bulkMessage("updated", results), results));
+    }
+
+    @Operation(
+            summary = "Delete tasks in bulk",
+            description = "Deletes up to task-bulk.max-items tasks by ID. Returns one result per ID."
+    )
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse> bulkDeleteTasks(@RequestBody List<Long> taskIds) {
+        List<BulkTaskResult> results = taskService.bulkDeleteTasks(taskIds);
+        return ResponseEntity.ok(new ApiResponse(true, bulkMessage("deleted", results), results));
+    }
+
+    private static String bulkMessage(String action, List<BulkTaskResult> results) {
+        long succeeded = results.stream().filter(BulkTaskResult::isSuccess).count();
+        return succeeded + " of " + results.size() + " tasks " + action;
+    }
+
     @Operation(
             summary = "Update an existing task",
             description = "Updates task details by task ID."
@@ -59,12 +110,33 @@ public class TaskController {
 
     @Operation(
             summary = "Get all tasks",
-            description = "Retrieves all tasks belonging to the logged-in user."
+            description = "Retrieves the logged-in user's tasks in id order, at most task-page.max-size of them. "
+                    + "Use /api/tasks/page instead, which returns a cursor for the rest.",
+            deprecated = true
     )
     @GetMapping
     public ResponseEntity<ApiResponse> getAllTasks() {
-        List<TaskResponse> tasks = taskService.getAllUserTasks();
-        return ResponseEntity.ok(new ApiResponse(true, "Tasks retrieved successfully", tasks));
+        // kept for clients that expect a plain list, but bounded like any other page
+        TaskPageResponse page = taskService.getUserTaskPage(null, Integer.MAX_VALUE, null, null);
+        String message = page.getNextCursor() == null
+                ? "Tasks retrieved successfully"
+                : "First " + page.getSize() + " tasks retrieved, use /api/tasks/page?cursor="
+                        + page.getNextCursor() + " for the rest";
+        return ResponseEntity.ok(new ApiResponse(true, message, page.getItems()));
+    }
+
+    @Operation(
+            summary = "Get a page of tasks",
+            description = "Retrieves the logged-in user's tasks in id order, optionally filtered by status and type. "
+                    + "Pass the returned nextCursor as cursor to get the following page."
+    )
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse> getTaskPage(@RequestParam(required = false) Long cursor,
+                                                   @RequestParam(defaultValue = "50") int size,
+                                                   @RequestParam(required = false) TaskStatus status,
+                                                   @RequestParam(required = false) TaskType taskType) {
+        TaskPageResponse page = taskService.getUserTaskPage(cursor, size, status, taskType);
+        return ResponseEntity.ok(new ApiResponse(true, "Tasks retrieved successfully", page));
     }
 
     @Operation(
@@ -77,4 +149,43 @@ public class TaskController {
         return ResponseEntity.ok(new ApiResponse(true, "Task retrieved successfully", task));
     }
 
+    @Operation(
+            summary = "Get execution history of a task",
+            description = "Retrieves a page of the task's executions, newest first. errorMessage and result "
+                    + "are only included with details=true. Pass the returned nextCursor as cursor for older ones."
+    )
+    @GetMapping("/{id}/executions")
+    public ResponseEntity<ApiResponse> getExecutions(@PathVariable Long id,
+                                                     @RequestParam(required = false) Long cursor,
+                                                     @RequestParam(defaultValue = "50") int size,
+                                                     @RequestParam(required = false) ExecutionStatus status,
+                                                     @RequestParam(defaultValue = "false") boolean details) {
+        TaskExecutionPageResponse page = taskExecutionService.getExecutions(id, cursor, size, status, details);
+        return ResponseEntity.ok(new ApiResponse(true, "Executions retrieved successfully", page));
+    }
+
+    @Operation(
+            summary = "Get a single execution",
+            description = "Retrieves one execution of the task including errorMessage and result."
+    )
+    @GetMapping("/{id}/executions/{executionId}")
+    public ResponseEntity<ApiResponse> getExecution(@PathVariable Long id, @PathVariable Long executionId) {
+        TaskExecutionResponse execution = taskExecutionService.getExecution(id, executionId);
+        return ResponseEntity.ok(new ApiResponse(true, "Execution retrieved successfully", execution));
+    }
+
+    @Operation(
+            summary = "Get hourly execution rollups of a task",
+            description = "Retrieves the task's hourly execution counts and p50/p95 durations, oldest first. "
+                    + "Defaults to the last 24 hours; spans are capped at execution-history.rollup-max-days."
+    )
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<ApiResponse> getRollups(@PathVariable Long id,
+                                                  @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<TaskExecutionRollupResponse> rollups = taskExecutionService.getRollups(id, from, to);
+        return ResponseEntity.ok(new ApiResponse(true, "Rollups retrieved successfully", rollups));
+    }
 }
@@ -10,12 +10,17 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "tasks", indexes = {
         @Index(name = "idx_tasks_user_id", columnList = "user_id"),
-        @Index(name = "idx_tasks_status", columnList = "status")
+        @Index(name = "idx_tasks_status", columnList = "status"),
+        // keyset paging of a user's tasks, with and without a status filter
+        @Index(name = "idx_tasks_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_tasks_user_status_id", columnList = "user_id, status, id")
 })
 public class Task {
 
+    // pooled sequence: ids are handed out in blocks of 50 so bulk inserts can be JDBC batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -34,6 +39,13 @@ public class Task {
     @Column(length = 2000)
     private String actionPayload;
 
+    // retry policy, null falls back to task-retry.*
+    @Column(name = "max_attempts")
+    private Integer maxAttempts;
+
+    @Column(name = "retry_backoff_ms")
+    private Long retryBackoffMs;
+
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
@@ -168,4 +180,20 @@ public class Task {
     public void setLastExecutedAt(LocalDateTime lastExecutedAt) {
         this.lastExecutedAt = lastExecutedAt;
     }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(Long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
 }
@@ -10,12 +10,16 @@ import java.time.LocalDateTime;
 @Table(name = "task_executions", indexes = {
         @Index(name = "idx_task_exec_task_id", columnList = "task_id"),
         @Index(name = "idx_task_exec_status", columnList = "status"),
-        @Index(name = "idx_task_exec_start", columnList = "start_time")
+        @Index(name = "idx_task_exec_start", columnList = "start_time"),
+        // newest-first keyset pages of one task's history
+        @Index(name = "idx_task_exec_task_id_id", columnList = "task_id, id")
 })
 public class TaskExecution {
 
+    // pooled sequence: ids are handed out in blocks of 50 so inserts can be JDBC batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_executions_seq")
+    @SequenceGenerator(name = "task_executions_seq", sequenceName = "task_executions_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "task_id", nullable = false)
@@ -37,6 +41,10 @@ public class TaskExecution {
     @Column(length = 5000)
     private String result;
 
+    // 1 for the scheduled run, 2.. for retries of it; null on rows written before retries existed
+    @Column(name = "attempt")
+    private Integer attempt;
+
     public TaskExecution() {
     }
 
@@ -114,4 +122,12 @@ public class TaskExecution {
     public void setResult(String result) {
         this.result = result;
     }
+
+    public Integer getAttempt() {
+        return attempt;
+    }
+
+    public void setAttempt(Integer attempt) {
+        this.attempt = attempt;
+    }
 }
@@ -0,0 +1,120 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain;
+
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-task hourly summary of task_executions, written by the history maintenance job.
+ */
+@Entity
+@Table(name = "task_execution_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_exec_rollup_task_bucket",
+                columnNames = {"task_id", "bucket_start"}),
+        indexes = @Index(name = "idx_task_exec_rollup_bucket", columnList = "bucket_start"))
+public class TaskExecutionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "execution_count", nullable = false)
+    private long executionCount;
+
+    @Column(name = "success_count", nullable = false)
+    private long successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private long failureCount;
+
+    @Column(name = "p50_duration_ms")
+    private Double p50DurationMs;
+
+    @Column(name = "p95_duration_ms")
+    private Double p95DurationMs;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TaskExecutionRollup() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public void setExecutionCount(long executionCount) {
+        this.executionCount = executionCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(long successCount) {
+        this.successCount = successCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(long failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public Double getP50DurationMs() {
+        return p50DurationMs;
+    }
+
+    public void setP50DurationMs(Double p50DurationMs) {
+        this.p50DurationMs = p50DurationMs;
+    }
+
+    public Double getP95DurationMs() {
+        return p95DurationMs;
+    }
+
+    public void setP95DurationMs(Double p95DurationMs) {
+        this.p95DurationMs = p95DurationMs;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
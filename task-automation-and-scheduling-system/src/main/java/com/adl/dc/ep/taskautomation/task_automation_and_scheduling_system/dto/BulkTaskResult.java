@@ -0,0 +1,51 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+public class BulkTaskResult {
+    // position of the item in the request
+    private int index;
+    private Long taskId;
+    private boolean success;
+    private String error;
+
+    public BulkTaskResult() {
+    }
+
+    public BulkTaskResult(int index, Long taskId, boolean success, String error) {
+        this.index = index;
+        this.taskId = taskId;
+        this.success = success;
+        this.error = error;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
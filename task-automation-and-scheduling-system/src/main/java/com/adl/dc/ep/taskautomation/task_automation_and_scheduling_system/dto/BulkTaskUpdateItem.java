@@ -0,0 +1,30 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+public class BulkTaskUpdateItem {
+    private Long id;
+    private TaskRequest task;
+
+    public BulkTaskUpdateItem() {
+    }
+
+    public BulkTaskUpdateItem(Long id, TaskRequest task) {
+        this.id = id;
+        this.task = task;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TaskRequest getTask() {
+        return task;
+    }
+
+    public void setTask(TaskRequest task) {
+        this.task = task;
+    }
+}
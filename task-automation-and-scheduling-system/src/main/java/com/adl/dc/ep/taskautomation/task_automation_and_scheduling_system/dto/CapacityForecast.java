@@ -0,0 +1,151 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ForecastResolution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CapacityForecast {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private ForecastResolution resolution;
+    // active tasks in the index
+    private int tasks;
+    // distinct trigger crons those tasks share
+    private int schedules;
+    private long executions;
+    private int peakPerSecond;
+    private int peakPerMinute;
+    private LocalDateTime peakMinute;
+    // mean task.execution time on this node since start, null before the first execution
+    private Double averageExecutionMs;
+    // most executions overlapping at any moment if each runs averageExecutionMs
+    private int estimatedPeakConcurrency;
+    // configured Quartz thread count, to compare against the estimate
+    private int threadPoolSize;
+    // only the buckets in which something fires, in time order
+    private List<ForecastBucket> buckets;
+
+    public CapacityForecast() {
+    }
+
+    public CapacityForecast(LocalDateTime from, LocalDateTime to, ForecastResolution resolution, int tasks, int schedules, long executions, int peakPerSecond, int peakPerMinute, LocalDateTime peakMinute, Double averageExecutionMs, int estimatedPeakConcurrency, int threadPoolSize, List<ForecastBucket> buckets) {
+        this.from = from;
+        this.to = to;
+        this.resolution = resolution;
+        this.tasks = tasks;
+        this.schedules = schedules;
+        this.executions = executions;
+        this.peakPerSecond = peakPerSecond;
+        this.peakPerMinute = peakPerMinute;
+        this.peakMinute = peakMinute;
+        this.averageExecutionMs = averageExecutionMs;
+        this.estimatedPeakConcurrency = estimatedPeakConcurrency;
+        this.threadPoolSize = threadPoolSize;
+        this.buckets = buckets;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public ForecastResolution getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(ForecastResolution resolution) {
+        this.resolution = resolution;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(int tasks) {
+        this.tasks = tasks;
+    }
+
+    public int getSchedules() {
+        return schedules;
+    }
+
+    public void setSchedules(int schedules) {
+        this.schedules = schedules;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public int getPeakPerSecond() {
+        return peakPerSecond;
+    }
+
+    public void setPeakPerSecond(int peakPerSecond) {
+        this.peakPerSecond = peakPerSecond;
+    }
+
+    public int getPeakPerMinute() {
+        return peakPerMinute;
+    }
+
+    public void setPeakPerMinute(int peakPerMinute) {
+        this.peakPerMinute = peakPerMinute;
+    }
+
+    public LocalDateTime getPeakMinute() {
+        return peakMinute;
+    }
+
+    public void setPeakMinute(LocalDateTime peakMinute) {
+        this.peakMinute = peakMinute;
+    }
+
+    public Double getAverageExecutionMs() {
+        return averageExecutionMs;
+    }
+
+    public void setAverageExecutionMs(Double averageExecutionMs) {
+        this.averageExecutionMs = averageExecutionMs;
+    }
+
+    public int getEstimatedPeakConcurrency() {
+        return estimatedPeakConcurrency;
+    }
+
+    public void setEstimatedPeakConcurrency(int estimatedPeakConcurrency) {
+        this.estimatedPeakConcurrency = estimatedPeakConcurrency;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public List<ForecastBucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<ForecastBucket> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,79 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.CircuitState;
+
+import java.time.LocalDateTime;
+
+public class CircuitBreakerStatus {
+    // host[:port] the breaker guards
+    private String host;
+    private CircuitState state;
+    // outcomes in the current window
+    private int calls;
+    private int failures;
+    // percent of calls in the window that failed
+    private double failureRate;
+    // when an OPEN breaker lets a probe through, null otherwise
+    private LocalDateTime openUntil;
+
+    public CircuitBreakerStatus() {
+    }
+
+    public CircuitBreakerStatus(String host, CircuitState state, int calls, int failures,
+                                double failureRate, LocalDateTime openUntil) {
+        this.host = host;
+        this.state = state;
+        this.calls = calls;
+        this.failures = failures;
+        this.failureRate = failureRate;
+        this.openUntil = openUntil;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public CircuitState getState() {
+        return state;
+    }
+
+    public void setState(CircuitState state) {
+        this.state = state;
+    }
+
+    public int getCalls() {
+        return calls;
+    }
+
+    public void setCalls(int calls) {
+        this.calls = calls;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public void setFailures(int failures) {
+        this.failures = failures;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    public LocalDateTime getOpenUntil() {
+        return openUntil;
+    }
+
+    public void setOpenUntil(LocalDateTime openUntil) {
+        this.openUntil = openUntil;
+    }
+}
@@ -0,0 +1,87 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * An execution state change as pushed to SSE subscribers.
+ *
+ * Events are published before the journal has written the execution, so they carry the
+ * Quartz fire instance id instead of the execution id: it is known up front and is the
+ * same on the RUNNING event and the final one, letting a client pair them.
+ */
+public class ExecutionEventResponse {
+    private String fireInstanceId;
+    private Long taskId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private ExecutionStatus status;
+    private String errorMessage;
+    private String result;
+    private Integer attempt;
+
+    public String getFireInstanceId() {
+        return fireInstanceId;
+    }
+
+    public void setFireInstanceId(String fireInstanceId) {
+        this.fireInstanceId = fireInstanceId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public ExecutionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ExecutionStatus status) {
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public Integer getAttempt() {
+        return attempt;
+    }
+
+    public void setAttempt(Integer attempt) {
+        this.attempt = attempt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.time.LocalDateTime;
+
+public class FiringHistogramBucket {
+    private LocalDateTime second;
+    // firings in this second with the crons as written
+    private int before;
+    // firings in this second with smearing applied
+    private int after;
+
+    public FiringHistogramBucket() {
+    }
+
+    public FiringHistogramBucket(LocalDateTime second, int before, int after) {
+        this.second = second;
+        this.before = before;
+        this.after = after;
+    }
+
+    public LocalDateTime getSecond() {
+        return second;
+    }
+
+    public void setSecond(LocalDateTime second) {
+        this.second = second;
+    }
+
+    public int getBefore() {
+        return before;
+    }
+
+    public void setBefore(int before) {
+        this.before = before;
+    }
+
+    public int getAfter() {
+        return after;
+    }
+
+    public void setAfter(int after) {
+        this.after = after;
+    }
+}
@@ -0,0 +1,106 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class FiringHistogramReport {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean smearingEnabled;
+    private int windowSeconds;
+    // active tasks projected
+    private int tasks;
+    // total over the period with the crons as written
+    private long firings;
+    private int peakPerSecondBefore;
+    private int peakPerSecondAfter;
+    // only the seconds in which something fires, in time order
+    private List<FiringHistogramBucket> seconds;
+
+    public FiringHistogramReport() {
+    }
+
+    public FiringHistogramReport(LocalDateTime from, LocalDateTime to, boolean smearingEnabled, int windowSeconds, int tasks, long firings, int peakPerSecondBefore, int peakPerSecondAfter, List<FiringHistogramBucket> seconds) {
+        this.from = from;
+        this.to = to;
+        this.smearingEnabled = smearingEnabled;
+        this.windowSeconds = windowSeconds;
+        this.tasks = tasks;
+        this.firings = firings;
+        this.peakPerSecondBefore = peakPerSecondBefore;
+        this.peakPerSecondAfter = peakPerSecondAfter;
+        this.seconds = seconds;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public boolean isSmearingEnabled() {
+        return smearingEnabled;
+    }
+
+    public void setSmearingEnabled(boolean smearingEnabled) {
+        this.smearingEnabled = smearingEnabled;
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(int tasks) {
+        this.tasks = tasks;
+    }
+
+    public long getFirings() {
+        return firings;
+    }
+
+    public void setFirings(long firings) {
+        this.firings = firings;
+    }
+
+    public int getPeakPerSecondBefore() {
+        return peakPerSecondBefore;
+    }
+
+    public void setPeakPerSecondBefore(int peakPerSecondBefore) {
+        this.peakPerSecondBefore = peakPerSecondBefore;
+    }
+
+    public int getPeakPerSecondAfter() {
+        return peakPerSecondAfter;
+    }
+
+    public void setPeakPerSecondAfter(int peakPerSecondAfter) {
+        this.peakPerSecondAfter = peakPerSecondAfter;
+    }
+
+    public List<FiringHistogramBucket> getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(List<FiringHistogramBucket> seconds) {
+        this.seconds = seconds;
+    }
+}
@@ -0,0 +1,33 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.time.LocalDateTime;
+
+public class ForecastBucket {
+    // start of the second or minute
+    private LocalDateTime time;
+    private int executions;
+
+    public ForecastBucket() {
+    }
+
+    public ForecastBucket(LocalDateTime time, int executions) {
+        this.time = time;
+        this.executions = executions;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    public void setTime(LocalDateTime time) {
+        this.time = time;
+    }
+
+    public int getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(int executions) {
+        this.executions = executions;
+    }
+}
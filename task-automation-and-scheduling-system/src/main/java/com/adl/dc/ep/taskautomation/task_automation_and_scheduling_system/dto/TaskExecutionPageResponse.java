@@ -0,0 +1,43 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.util.List;
+
+public class TaskExecutionPageResponse {
+    private List<TaskExecutionResponse> items;
+    // pass back as cursor for the next (older) page, null on the last page
+    private Long nextCursor;
+    private int size;
+
+    public TaskExecutionPageResponse() {
+    }
+
+    public TaskExecutionPageResponse(List<TaskExecutionResponse> items, Long nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<TaskExecutionResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TaskExecutionResponse> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,60 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.time.LocalDateTime;
+
+public class TaskExecutionRollupResponse {
+    private LocalDateTime bucketStart;
+    private long executionCount;
+    private long successCount;
+    private long failureCount;
+    private Double p50DurationMs;
+    private Double p95DurationMs;
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public void setExecutionCount(long executionCount) {
+        this.executionCount = executionCount;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(long successCount) {
+        this.successCount = successCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(long failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public Double getP50DurationMs() {
+        return p50DurationMs;
+    }
+
+    public void setP50DurationMs(Double p50DurationMs) {
+        this.p50DurationMs = p50DurationMs;
+    }
+
+    public Double getP95DurationMs() {
+        return p95DurationMs;
+    }
+
+    public void setP95DurationMs(Double p95DurationMs) {
+        this.p95DurationMs = p95DurationMs;
+    }
+}
@@ -0,0 +1,43 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
+
+import java.util.List;
+
+public class TaskPageResponse {
+    private List<TaskResponse> items;
+    // pass back as cursor for the next page, null on the last page
+    private Long nextCursor;
+    private int size;
+
+    public TaskPageResponse() {
+    }
+
+    public TaskPageResponse(List<TaskResponse> items, Long nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<TaskResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TaskResponse> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -1,6 +1,8 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -18,6 +20,15 @@ public class TaskRequest {
 
     private String actionPayload;
 
+    // runs per firing including the first, null for the task-retry default
+    @Min(value = 1, message = "Max attempts must be at least 1")
+    @Max(value = 10, message = "Max attempts must be at most 10")
+    private Integer maxAttempts;
+
+    // delay before the first retry, doubled for every further one
+    @Min(value = 1000, message = "Retry backoff must be at least 1000 ms")
+    private Long retryBackoffMs;
+
     public String getName() {
         return name;
     }
@@ -57,4 +68,20 @@ public class TaskRequest {
     public void setActionPayload(String actionPayload) {
         this.actionPayload = actionPayload;
     }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(Long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
 }
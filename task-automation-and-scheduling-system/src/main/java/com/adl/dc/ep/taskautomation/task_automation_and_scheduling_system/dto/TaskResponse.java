@@ -14,6 +14,8 @@ public class TaskResponse {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime lastExecutedAt;
+    private Integer maxAttempts;
+    private Long retryBackoffMs;
 
     public Long getId() {
         return id;
@@ -78,4 +80,20 @@ public class TaskResponse {
     public void setLastExecutedAt(LocalDateTime lastExecutedAt) {
         this.lastExecutedAt = lastExecutedAt;
     }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(Long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
 }
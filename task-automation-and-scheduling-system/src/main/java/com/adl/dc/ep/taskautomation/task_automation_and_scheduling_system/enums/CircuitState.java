@@ -0,0 +1,7 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -3,5 +3,8 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums
 public enum ExecutionStatus {
     RUNNING,
     SUCCESS,
-    FAILED
+    FAILED,
+    // not attempted, the target host's circuit breaker was open
+    // (tables created by ddl-auto before this value existed need db/task_executions_status_check.sql)
+    CIRCUIT_OPEN
 }
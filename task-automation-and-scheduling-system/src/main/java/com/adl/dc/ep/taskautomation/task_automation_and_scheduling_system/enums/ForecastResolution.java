@@ -0,0 +1,6 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums;
+
+public enum ForecastResolution {
+    SECOND,
+    MINUTE
+}
@@ -0,0 +1,10 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception;
+
+/**
+ * Thrown instead of calling a host whose circuit breaker is open.
+ */
+public class CircuitOpenException extends ExternalServiceException {
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
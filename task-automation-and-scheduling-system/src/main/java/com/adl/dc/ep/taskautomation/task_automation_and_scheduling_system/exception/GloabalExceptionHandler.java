@@ -24,6 +24,18 @@ public class GloabalExceptionHandler {
     }
 
 
+    @ExceptionHandler(InvalidTaskPayloadException.class)
+    public ResponseEntity<ApiResponse> handleInvalidTaskPayload(InvalidTaskPayloadException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponse(false, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<ApiResponse> handleExportLimitExceeded(ExportLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ApiResponse(false, ex.getMessage(), null));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse> handleBadCredentials(BadCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
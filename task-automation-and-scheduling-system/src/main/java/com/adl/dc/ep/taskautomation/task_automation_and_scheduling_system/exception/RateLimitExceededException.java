@@ -0,0 +1,7 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
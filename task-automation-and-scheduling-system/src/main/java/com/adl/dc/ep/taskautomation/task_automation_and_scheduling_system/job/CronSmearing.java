@@ -0,0 +1,84 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spreads tasks that share a cron expression across a window instead of firing them
+ * all on the same second.
+ *
+ * Only fixed fields are moved: a literal seconds field is pushed later by the task id
+ * modulo the window, carrying into the minutes field when that is a literal too,
+ * and never past the end of the minute (or hour) the cron originally fired in. The
+ * days, hours and repetition of the expression are untouched, so "0 0 * * * ?" still
+ * fires once an hour, just at, say, minute 0 second 37 for one task and 0:12 for the
+ * next. Expressions whose seconds aren't a single number are left alone. The task keeps
+ * the cron it was created with; only its trigger uses the smeared one.
+ *
+ * Ids are handed out in sequence, so tasks created together, e.g. by one bulk call,
+ * take consecutive seconds and fill the window evenly rather than by chance.
+ */
+@Component
+public class CronSmearing {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    @Value("${task-smearing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${task-smearing.window-seconds:60}")
+    private int windowSeconds;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    /**
+     * @return the expression the task's trigger should use, smeared when smearing is enabled
+     */
+    public String triggerCron(Long taskId, String cronExpression) {
+        return enabled ? smeared(taskId, cronExpression) : cronExpression;
+    }
+
+    /**
+     * the task's expression with its offset applied, whether or not smearing is enabled.
+     */
+    public String smeared(Long taskId, String cronExpression) {
+        String[] fields = cronExpression.trim().split("\\s+");
+        if (taskId == null || fields.length < 6 || !isNumber(fields[0])) {
+            return cronExpression;
+        }
+        int second = Integer.parseInt(fields[0]);
+        boolean fixedMinute = isNumber(fields[1]);
+        int start = fixedMinute ? Integer.parseInt(fields[1]) * SECONDS_PER_MINUTE + second : second;
+        int room = (fixedMinute ? SECONDS_PER_HOUR : SECONDS_PER_MINUTE) - start;
+        int span = Math.min(windowSeconds, room);
+        if (span <= 1) {
+            return cronExpression;
+        }
+
+        int shifted = start + (int) Math.floorMod(taskId, (long) span);
+        fields[0] = String.valueOf(shifted % SECONDS_PER_MINUTE);
+        if (fixedMinute) {
+            fields[1] = String.valueOf(shifted / SECONDS_PER_MINUTE);
+        }
+        return String.join(" ", fields);
+    }
+
+    private static boolean isNumber(String field) {
+        if (field.isEmpty() || field.length() > 2) {
+            return false;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            if (!Character.isDigit(field.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionHistoryService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Partition upkeep, rollups and retention for the execution history. Runs on one
+ * node at a time when the scheduler is clustered.
+ */
+@Component
+@DisallowConcurrentExecution
+public class ExecutionHistoryMaintenanceJob implements Job {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionHistoryMaintenanceJob.class);
+
+    private final ExecutionHistoryService executionHistoryService;
+
+    public ExecutionHistoryMaintenanceJob(ExecutionHistoryService executionHistoryService) {
+        this.executionHistoryService = executionHistoryService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        logger.info("ExecutionHistoryMaintenanceJob.execute started");
+        executionHistoryService.runMaintenance();
+    }
+}
@@ -0,0 +1,158 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExecutionLaneFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bulkheads between task types sharing the Quartz pool.
+ *
+ * Every {@link TaskType} runs in its own lane: at most {@code max-concurrent} of its
+ * tasks execute at once, up to {@code max-queued} more wait up to {@code max-wait-ms}
+ * for a slot, and anything beyond that fails straight away. A type whose endpoint
+ * hangs can therefore hold at most max-concurrent + max-queued Quartz threads, and
+ * the rest of the pool keeps serving the other types.
+ *
+ * A lane only bounds what runs on the Quartz thread. EMAIL tasks hand their mail to
+ * MailDispatchService and return, so their lane covers the hand-off, not SMTP; a slow
+ * mail server is contained by mail-dispatch's queue and connection count instead.
+ *
+ * Lanes are configured under {@code execution-lanes.<type>}, e.g.
+ * execution-lanes.http-request.max-concurrent, falling back to execution-lanes.default.
+ */
+@Component
+public class ExecutionLanes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionLanes.class);
+
+    private final Map<TaskType, Lane> lanes = new EnumMap<>(TaskType.class);
+
+    public ExecutionLanes(Environment environment, MeterRegistry meterRegistry) {
+        for (TaskType type : TaskType.values()) {
+            String prefix = "execution-lanes." + type.name().toLowerCase(Locale.ROOT).replace('_', '-') + ".";
+            Lane lane = new Lane(type,
+                    setting(environment, prefix, "max-concurrent", 10),
+                    setting(environment, prefix, "max-queued", 10),
+                    setting(environment, prefix, "max-wait-ms", 30_000),
+                    meterRegistry);
+            lanes.put(type, lane);
+            logger.info("Execution lane {} | maxConcurrent={} | maxQueued={} | maxWaitMs={}",
+                    type, lane.maxConcurrent, lane.maxQueued, lane.maxWaitMs);
+        }
+    }
+
+    private static int setting(Environment environment, String prefix, String name, int defaultValue) {
+        Integer fallback = environment.getProperty("execution-lanes.default." + name, Integer.class, defaultValue);
+        return environment.getProperty(prefix + name, Integer.class, fallback);
+    }
+
+    /**
+     * runs the work on the calling thread once the type's lane has a free slot.
+     *
+     * @throws ExecutionLaneFullException if the lane's queue is full or no slot frees up in time
+     */
+    public <T> T run(TaskType type, Supplier<T> work) {
+        Lane lane = type != null ? lanes.get(type) : null;
+        if (lane == null) {
+            return work.get();
+        }
+        lane.acquire();
+        try {
+            return work.get();
+        } finally {
+            lane.permits.release();
+        }
+    }
+
+    private static final class Lane {
+
+        private final TaskType type;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Counter rejectedFull;
+        private final Counter rejectedTimeout;
+
+        Lane(TaskType type, int maxConcurrent, int maxQueued, long maxWaitMs, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWaitMs = maxWaitMs;
+            this.permits = new Semaphore(maxConcurrent, true);
+
+            String name = type.name();
+            Gauge.builder("task.lane.active", this, lane -> lane.maxConcurrent - lane.permits.availablePermits())
+                    .description("Tasks executing in the lane")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.lane.queued", queued, AtomicInteger::get)
+                    .description("Tasks waiting for a slot in the lane")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.lane.max", this, lane -> lane.maxConcurrent)
+                    .description("Concurrency limit of the lane")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("task.lane.wait")
+                    .description("Time tasks waited for a slot in the lane")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            this.rejectedFull = rejected(meterRegistry, name, "full");
+            this.rejectedTimeout = rejected(meterRegistry, name, "timeout");
+        }
+
+        private static Counter rejected(MeterRegistry meterRegistry, String lane, String reason) {
+            return Counter.builder("task.lane.rejected")
+                    .description("Tasks failed because their lane had no room")
+                    .tag("lane", lane)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+
+        void acquire() {
+            if (permits.tryAcquire()) {
+                waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                rejectedFull.increment();
+                throw new ExecutionLaneFullException("Execution lane " + type + " is full");
+            }
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExecutionLaneFullException("Interrupted waiting for execution lane " + type);
+            } finally {
+                queued.decrementAndGet();
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                rejectedTimeout.increment();
+                throw new ExecutionLaneFullException(
+                        "No slot in execution lane " + type + " within " + maxWaitMs + " ms");
+            }
+        }
+    }
+}
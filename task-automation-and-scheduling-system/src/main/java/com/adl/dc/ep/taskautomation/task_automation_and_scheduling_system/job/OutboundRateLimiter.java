@@ -0,0 +1,273 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.RateLimitExceededException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets that keep outbound task calls under upstream quotas: one per
+ * destination host and one per task owner, for the task types that call out
+ * (HTTP_REQUEST and WEATHER).
+ *
+ * {@link #reserve} never waits. A firing that finds a bucket empty takes the next free
+ * slot anyway, putting the bucket in debt, and is told how long to wait for it; the
+ * job reschedules itself for then instead of holding its thread. Because every
+ * deferred firing owns a later slot, a burst spreads out at the configured rate
+ * rather than coming back all at once. A firing whose slot is more than
+ * {@code max-defer-ms} away gives its slot back and fails.
+ *
+ * Buckets live in this node's memory while the scheduler is clustered, so every node
+ * would otherwise allow the full rate. The configured rates and bursts are the cluster's
+ * quota and each node enforces its share of them, divided by {@code nodes}; keep that at
+ * the number of scheduler nodes. Firings are spread over nodes by Quartz rather than
+ * evenly, so a node doing more than its share is deferred sooner than a shared bucket
+ * would defer it, never later.
+ *
+ * Past {@code max-buckets} only full buckets are forgotten, since dropping one in debt
+ * would hand out its deferred slots again. Buckets go full once idle for burst/rate
+ * seconds, so the cap is exceeded for at most that long.
+ */
+@Component
+public class OutboundRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundRateLimiter.class);
+
+    private final Map<String, TokenBucket> hostBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Limit> hostLimits = new HashMap<>();
+    private final Counter deferredByHost;
+    private final Counter deferredByUser;
+    private final Counter rejected;
+    private final Timer delay;
+    private Limit defaultHostLimit;
+    private Limit userLimit;
+    private String weatherHost;
+
+    @Value("${task-rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${task-rate-limit.host.permits-per-second:10}")
+    private double hostPermitsPerSecond;
+
+    @Value("${task-rate-limit.host.burst:20}")
+    private int hostBurst;
+
+    // host=permitsPerSecond or host=permitsPerSecond:burst
+    @Value("${task-rate-limit.host.overrides:}")
+    private String[] hostOverrides;
+
+    @Value("${task-rate-limit.user.permits-per-second:5}")
+    private double userPermitsPerSecond;
+
+    @Value("${task-rate-limit.user.burst:20}")
+    private int userBurst;
+
+    @Value("${task-rate-limit.max-defer-ms:300000}")
+    private long maxDeferMs;
+
+    @Value("${task-rate-limit.max-buckets:10000}")
+    private int maxBuckets;
+
+    @Value("${task-rate-limit.nodes:1}")
+    private int nodes;
+
+    @Value("${weather.base-url:https://api.openweathermap.org/data/2.5/weather}")
+    private String weatherBaseUrl;
+
+    public OutboundRateLimiter(MeterRegistry meterRegistry) {
+        this.deferredByHost = deferred(meterRegistry, "host");
+        this.deferredByUser = deferred(meterRegistry, "user");
+        this.rejected = Counter.builder("task.rate.rejected")
+                .description("Firings failed because their next rate limit slot was too far away")
+                .register(meterRegistry);
+        this.delay = Timer.builder("task.rate.delay")
+                .description("How long deferred firings were pushed back")
+                .register(meterRegistry);
+        Gauge.builder("task.rate.buckets", this, limiter -> limiter.hostBuckets.size() + limiter.userBuckets.size())
+                .description("Host and user token buckets currently held")
+                .register(meterRegistry);
+    }
+
+    private static Counter deferred(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("task.rate.deferred")
+                .description("Firings rescheduled by the bucket that had the longest wait")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        defaultHostLimit = perNode(hostPermitsPerSecond, hostBurst);
+        userLimit = perNode(userPermitsPerSecond, userBurst);
+        for (String override : hostOverrides != null ? hostOverrides : new String[0]) {
+            String[] hostAndLimit = override.trim().split("=", 2);
+            if (hostAndLimit.length != 2) {
+                continue;
+            }
+            String[] rateAndBurst = hostAndLimit[1].split(":", 2);
+            double rate = Double.parseDouble(rateAndBurst[0].trim());
+            int burst = rateAndBurst.length == 2 ? Integer.parseInt(rateAndBurst[1].trim()) : hostBurst;
+            hostLimits.put(hostAndLimit[0].trim().toLowerCase(Locale.ROOT), perNode(rate, burst));
+        }
+        weatherHost = hostOf(weatherBaseUrl);
+        logger.info("Outbound rate limits | enabled={} | host={}/s burst {} | user={}/s burst {} | overrides={} "
+                        + "| nodes={}, each enforcing host={}/s user={}/s",
+                enabled, hostPermitsPerSecond, hostBurst, userPermitsPerSecond, userBurst, hostLimits.keySet(),
+                nodes, defaultHostLimit.permitsPerSecond(), userLimit.permitsPerSecond());
+    }
+
+    // this node's share of a cluster-wide quota
+    private Limit perNode(double permitsPerSecond, int burst) {
+        int share = Math.max(1, nodes);
+        return new Limit(permitsPerSecond / share, Math.max(1, burst / share));
+    }
+
+    /**
+     * take a slot for one outbound firing.
+     *
+     * @param type    task type, only HTTP_REQUEST and WEATHER are limited
+     * @param payload the task's action payload, the target url for HTTP_REQUEST
+     * @param userId  task owner, null to skip the per-user limit
+     * @return 0 to run now, otherwise how many ms to defer the firing by; the slot is held either way
+     * @throws RateLimitExceededException if the slot would be more than max-defer-ms away
+     */
+    public long reserve(TaskType type, String payload, Long userId) {
+        if (!enabled) {
+            return 0;
+        }
+        String host = null;
+        if (type == TaskType.HTTP_REQUEST) {
+            host = hostOf(payload);
+        } else if (type == TaskType.WEATHER) {
+            host = weatherHost;
+        }
+        if (host == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        Reservation hostWait = take(hostBuckets, host, hostLimits.getOrDefault(host, defaultHostLimit), now);
+        Reservation userWait = userId != null ? take(userBuckets, userId, userLimit, now) : Reservation.NONE;
+
+        long waitNanos = Math.max(hostWait.nanos(), userWait.nanos());
+        if (waitNanos == 0) {
+            return 0;
+        }
+        long waitMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        if (waitMs > maxDeferMs) {
+            hostWait.refund();
+            userWait.refund();
+            rejected.increment();
+            throw new RateLimitExceededException("Rate limit for " + host + (userId != null ? " / user " + userId : "")
+                    + " has no free slot for " + waitMs + " ms");
+        }
+        (hostWait.nanos() >= userWait.nanos() ? deferredByHost : deferredByUser).increment();
+        delay.record(waitMs, TimeUnit.MILLISECONDS);
+        return waitMs;
+    }
+
+    private <K> Reservation take(Map<K, TokenBucket> buckets, K key, Limit limit, long now) {
+        // a rate of 0 turns the limit off
+        if (limit.permitsPerSecond() <= 0) {
+            return Reservation.NONE;
+        }
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            evictIfFull(buckets, now);
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit, now));
+        }
+        return new Reservation(bucket, bucket.reserve(now));
+    }
+
+    // dropping a full bucket only forgets that the key was idle; one in debt is kept
+    private <K> void evictIfFull(Map<K, TokenBucket> buckets, long now) {
+        if (buckets.size() < maxBuckets) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (buckets.size() >= maxBuckets) {
+            logger.debug("All {} rate limit buckets are in use, going over max-buckets", buckets.size());
+        }
+    }
+
+    private static String hostOf(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            return HttpService.hostOf(URI.create(url.trim()));
+        } catch (IllegalArgumentException e) {
+            // the task fails on its bad url later, no need to limit it
+            return null;
+        }
+    }
+
+    private record Limit(double permitsPerSecond, int burst) {
+    }
+
+    private record Reservation(TokenBucket bucket, long nanos) {
+
+        static final Reservation NONE = new Reservation(null, 0);
+
+        void refund() {
+            if (bucket != null) {
+                bucket.refund();
+            }
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double burst;
+        private double tokens;
+        private long refilledAtNanos;
+
+        TokenBucket(Limit limit, long now) {
+            this.permitsPerNano = limit.permitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+            this.burst = Math.max(1, limit.burst());
+            this.tokens = this.burst;
+            this.refilledAtNanos = now;
+        }
+
+        /**
+         * takes a token, going into debt when there is none.
+         *
+         * @return nanos until the token taken is actually available
+         */
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(burst, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAtNanos) * permitsPerNano);
+            refilledAtNanos = now;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When and how soon a failed firing is tried again.
+ *
+ * Attempt n (n >= 2) waits backoff * 2^(n-2), capped at {@code max-backoff-ms}, with
+ * "equal jitter": half the delay is fixed and the other half random, so tasks that
+ * failed together against the same upstream don't all come back at the same moment.
+ * Only failures of the configured exception types are retried; a bad payload fails
+ * the same way every time.
+ */
+@Component
+public class RetryPolicy {
+
+    @Value("${task-retry.default-max-attempts:1}")
+    private int defaultMaxAttempts;
+
+    @Value("${task-retry.default-backoff-ms:30000}")
+    private long defaultBackoffMs;
+
+    @Value("${task-retry.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${task-retry.retryable-exceptions:"
+            + "com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException,"
+            + "com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExecutionLaneFullException}")
+    private Class<?>[] retryableExceptions;
+
+    /**
+     * @param task    the task that failed
+     * @param attempt attempt that just failed, 1 for the scheduled run
+     * @param failure what it failed with
+     */
+    public boolean shouldRetry(Task task, int attempt, Exception failure) {
+        return attempt < maxAttempts(task) && isRetryable(failure);
+    }
+
+    /**
+     * delay before running the given attempt.
+     *
+     * @param task        the task to retry
+     * @param nextAttempt attempt about to be scheduled, 2 for the first retry
+     */
+    public long backoffMs(Task task, int nextAttempt) {
+        long base = task.getRetryBackoffMs() != null ? task.getRetryBackoffMs() : defaultBackoffMs;
+        int doublings = Math.min(Math.max(nextAttempt - 2, 0), 30);
+        // compared before shifting so a large base can't overflow
+        long delay = base >= (maxBackoffMs >> doublings) ? maxBackoffMs : base << doublings;
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private int maxAttempts(Task task) {
+        return task.getMaxAttempts() != null ? task.getMaxAttempts() : defaultMaxAttempts;
+    }
+
+    private boolean isRetryable(Exception failure) {
+        for (Class<?> type : retryableExceptions) {
+            if (type.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,62 +2,102 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.InvalidTaskPayloadException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.RateLimitExceededException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.TaskNotFoundException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.UserNotFoundException;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.EmailService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionJournalService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.WeatherService;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.utils.Key;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 
 import java.time.LocalDateTime;
-
+import java.util.Date;
+
+/**
+ * Runs one firing of a user task and records it in the execution journal.
+ *
+ * A failure the {@link RetryPolicy} considers transient schedules a one-shot trigger for
+ * the next attempt instead of sleeping on the worker thread; the attempt number travels
+ * in the trigger's JobDataMap and each attempt is journaled as an execution of its own.
+ *
+ * HTTP_REQUEST and WEATHER firings first take a slot from the {@link OutboundRateLimiter};
+ * one that has to wait for it is rescheduled for the slot's time, before anything is
+ * journaled, and runs then without asking again.
+ *
+ * Calls to a host whose circuit breaker is open end as CIRCUIT_OPEN rather than FAILED.
+ *
+ * Each run and its fire lag are timed through {@link TaskExecutionMetrics}.
+ */
 @Component
 public class TaskExecutionJob implements Job {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskExecutionJob.class);
 
+    private static final TaskType[] TASK_TYPES = TaskType.values();
+
+    private static final String DEFERRED_GROUP = "deferred-triggers";
+
+    // set on deferred triggers, whose firing already holds a rate limit slot
+    private static final String RATE_SLOT_KEY = "rateSlotReserved";
 
-    private final TaskRepository taskRepository;
 
-    private final TaskExecutionRepository executionRepository;
+    private final TaskCacheService taskCache;
 
-    private final UserRepository userRepository;
+    private final ExecutionJournalService executionJournal;
 
     private final EmailService emailService;
 
+    private final HttpService httpService;
+
+    private final WeatherService weatherService;
+
+    private final ExecutionEventService executionEvents;
+
+    private final ExecutionLanes executionLanes;
 
-    @Value("${weather.api-key}")
-    private String weatherApiKey;
+    private final RetryPolicy retryPolicy;
 
-    @Value("${weather.base-url}")
-    private String weatherBaseUrl;
+    private final OutboundRateLimiter rateLimiter;
 
-    @Value("${weather.units:metric}")
-    private String weatherUnits;
+    private final TaskExecutionMetrics metrics;
 
-    public TaskExecutionJob(TaskRepository taskRepository, TaskExecutionRepository executionRepository,
-                            UserRepository userRepository,
-                            EmailService emailService) {
-        this.taskRepository = taskRepository;
-        this.executionRepository = executionRepository;
-        this.userRepository = userRepository;
+    public TaskExecutionJob(TaskCacheService taskCache, ExecutionJournalService executionJournal,
+                            EmailService emailService, HttpService httpService,
+                            WeatherService weatherService, ExecutionEventService executionEvents,
+                            ExecutionLanes executionLanes, RetryPolicy retryPolicy,
+                            OutboundRateLimiter rateLimiter, TaskExecutionMetrics metrics) {
+        this.taskCache = taskCache;
+        this.executionJournal = executionJournal;
         this.emailService = emailService;
+        this.httpService = httpService;
+        this.weatherService = weatherService;
+        this.executionEvents = executionEvents;
+        this.executionLanes = executionLanes;
+        this.retryPolicy = retryPolicy;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
     }
 
     @Override
@@ -82,19 +122,45 @@ public class TaskExecutionJob implements Job {
         }
 
         logger.info("Executing task with id={}", taskId);
+        long startNanos = System.nanoTime();
+        int type = typeIndex(dataMap.getString("taskType"));
+        recordFireLag(context, type);
+
+        int attempt = parseAttempt(dataMap);
+        Long userId = parseUserId(dataMap);
+        RateLimitExceededException rateLimited = null;
+        // type and url come from the job data, which every task update rewrites, so deferring needs no lookup
+        if (!dataMap.containsKey(RATE_SLOT_KEY)) {
+            try {
+                long deferMs = rateLimiter.reserve(type != TaskExecutionMetrics.UNKNOWN ? TASK_TYPES[type] : null,
+                        dataMap.getString("actionPayload"), userId);
+                if (deferMs > 0 && defer(context, taskId, attempt, deferMs)) {
+                    return;
+                }
+            } catch (RateLimitExceededException e) {
+                rateLimited = e;
+            }
+        }
 
         TaskExecution execution = new TaskExecution();
         execution.setTaskId(taskId);
+        execution.setAttempt(attempt);
         execution.setStatus(ExecutionStatus.RUNNING);
         execution.setStartTime(LocalDateTime.now());
-        execution = executionRepository.save(execution);
+        // written in batches by the journal rather than one round-trip per state change
+        executionJournal.recordStarted(execution);
+        String fireInstanceId = context.getFireInstanceId();
+        executionEvents.publish(userId, fireInstanceId, execution);
 
+        Task task = null;
         try {
-            Task task = taskRepository.findById(taskId)
-                    .orElseThrow(() -> {
-                        logger.error("Task not found for id={}", taskId);
-                        return new TaskNotFoundException(taskId);
-                    });
+            task = loadTask(taskId, dataMap);
+            if (task.getTaskType() != null) {
+                type = task.getTaskType().ordinal();
+            }
+            if (rateLimited != null) {
+                throw rateLimited;
+            }
 
             String result = executeTaskLogic(task);
 
@@ -102,20 +168,150 @@ public class TaskExecutionJob implements Job {
             execution.setStatus(ExecutionStatus.SUCCESS);
             execution.setResult(result);
 
-            task.setLastExecutedAt(LocalDateTime.now());
-            taskRepository.save(task);
+            executionJournal.recordTaskExecuted(taskId, execution.getEndTime());
             logger.info("Task id={} executed successfully. Result={}", taskId, result);
+        } catch (CircuitOpenException e) {
+            // the host is known to be down, so nothing was sent; retried like any other outage
+            logger.warn("Task id={} short-circuited: {}", taskId, e.getMessage());
+            execution.setEndTime(LocalDateTime.now());
+            execution.setStatus(ExecutionStatus.CIRCUIT_OPEN);
+            execution.setErrorMessage(e.getMessage());
+            if (retryPolicy.shouldRetry(task, attempt, e)) {
+                scheduleRetry(context, task, attempt + 1);
+            }
         } catch (Exception e) {
             logger.error("Error executing task id={}: {}", taskId, e.getMessage(), e);
             execution.setEndTime(LocalDateTime.now());
             execution.setStatus(ExecutionStatus.FAILED);
             execution.setErrorMessage(e.getMessage());
+            if (task != null && retryPolicy.shouldRetry(task, attempt, e)) {
+                scheduleRetry(context, task, attempt + 1);
+            }
         } finally {
-            executionRepository.save(execution);
+            executionJournal.recordFinished(execution);
+            executionEvents.publish(userId, fireInstanceId, execution);
+            metrics.recordExecution(type, execution.getStatus(), System.nanoTime() - startNanos);
+        }
+    }
+
+    private void scheduleRetry(JobExecutionContext context, Task task, int nextAttempt) {
+        long delayMs = retryPolicy.backoffMs(task, nextAttempt);
+        Trigger retry = TriggerBuilder.newTrigger()
+                .forJob(context.getJobDetail().getKey())
+                // one pending retry per attempt number, so overlapping failures don't stack up retries
+                .withIdentity(task.getId() + "-attempt-" + nextAttempt, "retry-triggers")
+                .usingJobData("attempt", String.valueOf(nextAttempt))
+                .startAt(new Date(System.currentTimeMillis() + delayMs))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            context.getScheduler().scheduleJob(retry);
+            logger.info("Retry scheduled | taskId={} | attempt={} | delayMs={}", task.getId(), nextAttempt, delayMs);
+        } catch (ObjectAlreadyExistsException e) {
+            logger.debug("Retry already pending | taskId={} | attempt={}", task.getId(), nextAttempt);
+        } catch (SchedulerException e) {
+            logger.warn("Failed to schedule retry | taskId={} | attempt={}", task.getId(), nextAttempt, e);
+        }
+    }
+
+    /**
+     * @return false if the trigger couldn't be stored, in which case the firing runs now
+     */
+    private boolean defer(JobExecutionContext context, Long taskId, int attempt, long delayMs) {
+        Trigger deferred = TriggerBuilder.newTrigger()
+                .forJob(context.getJobDetail().getKey())
+                .withIdentity(Key.createUniqueName(DEFERRED_GROUP), DEFERRED_GROUP)
+                .usingJobData("attempt", String.valueOf(attempt))
+                .usingJobData(RATE_SLOT_KEY, "true")
+                .startAt(new Date(System.currentTimeMillis() + delayMs))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            context.getScheduler().scheduleJob(deferred);
+            logger.info("Firing deferred by rate limit | taskId={} | attempt={} | delayMs={}", taskId, attempt, delayMs);
+            return true;
+        } catch (SchedulerException e) {
+            logger.warn("Failed to defer firing, running it now | taskId={}", taskId, e);
+            return false;
+        }
+    }
+
+    private static int parseAttempt(JobDataMap dataMap) {
+        String attempt = dataMap.getString("attempt");
+        try {
+            return attempt != null ? Math.max(1, Integer.parseInt(attempt)) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private void recordFireLag(JobExecutionContext context, int type) {
+        Date scheduled = context.getScheduledFireTime();
+        Date fired = context.getFireTime();
+        // both are null for jobs triggered by hand
+        if (scheduled != null && fired != null) {
+            metrics.recordFireLag(type, fired.getTime() - scheduled.getTime());
+        }
+    }
+
+    private static int typeIndex(String taskType) {
+        if (taskType != null) {
+            for (TaskType candidate : TASK_TYPES) {
+                if (candidate.name().equals(taskType)) {
+                    return candidate.ordinal();
+                }
+            }
+        }
+        return TaskExecutionMetrics.UNKNOWN;
+    }
+
+    // only used to route live events, so a job stored without it just has no subscribers
+    private static Long parseUserId(JobDataMap dataMap) {
+        String userId = dataMap.getString("userId");
+        try {
+            return userId != null ? Long.valueOf(userId) : null;
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
+    private Task loadTask(Long taskId, JobDataMap dataMap) {
+        Task task = findTask(taskId);
+        if (!matchesJobData(task, dataMap)) {
+            // changed on another node since this one cached it
+            taskCache.evict(taskId);
+            task = findTask(taskId);
+        }
+        return task;
+    }
+
+    private Task findTask(Long taskId) {
+        return taskCache.getTask(taskId)
+                .orElseThrow(() -> {
+                    logger.error("Task not found for id={}", taskId);
+                    return new TaskNotFoundException(taskId);
+                });
+    }
+
+    /**
+     * the JobDataMap is rewritten on every update, so it tells us whether the cached copy is current.
+     */
+    private static boolean matchesJobData(Task task, JobDataMap dataMap) {
+        return matches(dataMap, "taskType", task.getTaskType() != null ? task.getTaskType().name() : null)
+                && matches(dataMap, "actionPayload", task.getActionPayload() != null ? task.getActionPayload() : "")
+                && matches(dataMap, "userId", String.valueOf(task.getUserId()));
+    }
+
+    private static boolean matches(JobDataMap dataMap, String key, String cachedValue) {
+        return !dataMap.containsKey(key) || dataMap.getString(key).equals(cachedValue);
+    }
+
+    // each type runs in its own lane so a slow type can't take the whole pool
     private String executeTaskLogic(Task task) {
+        return executionLanes.run(task.getTaskType(), () -> dispatch(task));
+    }
+
+    private String dispatch(Task task) {
         switch (task.getTaskType()) {
             case EMAIL:
                 return executeEmailTask(task);
@@ -137,11 +333,15 @@ public class TaskExecutionJob implements Job {
     }
 
     private String executeHttpTask(Task task) {
-        RestTemplate restTemplate = new RestTemplate();
         String url = task.getActionPayload();
+        if (url == null || url.isBlank()) {
+            throw new InvalidTaskPayloadException("A target URL must be provided for HTTP_REQUEST tasks");
+        }
         try {
-            String response = restTemplate.getForObject(url, String.class);
+            String response = httpService.getForString(url);
             return "HTTP request completed: " + response;
+        } catch (CircuitOpenException e) {
+            throw e;
         } catch (Exception e) {
             throw new ExternalServiceException("HTTP request failed: " + e.getMessage());
         }
@@ -161,25 +361,16 @@ public class TaskExecutionJob implements Job {
             throw new InvalidTaskPayloadException("Location is required for WEATHER tasks");
         }
 
-        // Build the OpenWeather API URL with required query parameters
-        String url = UriComponentsBuilder.fromUriString(weatherBaseUrl)
-                .queryParam("q", location)        // location provided by user
-                .queryParam("appid", weatherApiKey) // OpenWeather API key
-                .queryParam("units", weatherUnits)  // temperature unit (metric/imperial)
-                .build()
-                .toUriString();
-
-        // Call the OpenWeather API
-        OpenWeatherResponseDto weather =
-                new RestTemplate().getForObject(url, OpenWeatherResponseDto.class);
+        // Served from the location cache when another task looked it up recently
+        OpenWeatherResponseDto weather = weatherService.getCurrentWeather(location);
 
         // Validate the API response
         if (weather == null || weather.getMain() == null) {
             throw new ExternalServiceException("Invalid response from OpenWeather API");
         }
 
-        // Fetch the user who owns this task
-        User user = userRepository.findById(task.getUserId())
+        // Look up the email of the user who owns this task
+        String ownerEmail = taskCache.getUserEmail(task.getUserId())
                 .orElseThrow(() -> new UserNotFoundException(task.getUserId()));
 
         // Extract temperature value from the weather response
@@ -192,13 +383,13 @@ public class TaskExecutionJob implements Job {
 
         // Send weather information to the user via email
         emailService.sendSimpleEmail(
-                user.getEmail(),
+                ownerEmail,
                 "Weather Update for " + location,
                 "Temperature: %.1f °C\nCondition: %s".formatted(temp, desc)
         );
 
         // Return execution result
-        return "Weather email sent to " + user.getEmail();
+        return "Weather email sent to " + ownerEmail;
     }
 
 }
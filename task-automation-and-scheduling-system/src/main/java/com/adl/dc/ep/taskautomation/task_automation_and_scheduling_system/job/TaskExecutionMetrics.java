@@ -0,0 +1,60 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for {@link TaskExecutionJob}, which Quartz instantiates for every firing and so
+ * can't own meters itself.
+ *
+ * {@code task.execution} times each run by taskType and status (its count is the number
+ * of runs per outcome) and {@code task.fire.lag} is how late the firing started compared
+ * to its scheduled fire time. Both are registered up front for every taskType so the hot
+ * path doesn't look meters up. A type is a {@link TaskType} ordinal, or {@link #UNKNOWN}
+ * until the task or its job data says otherwise.
+ */
+@Component
+public class TaskExecutionMetrics {
+
+    private static final TaskType[] TASK_TYPES = TaskType.values();
+
+    static final int UNKNOWN = TASK_TYPES.length;
+
+    // [type][status ordinal]
+    private final Timer[][] executionTimers;
+
+    private final Timer[] fireLagTimers;
+
+    public TaskExecutionMetrics(MeterRegistry meterRegistry) {
+        int types = TASK_TYPES.length + 1;
+        this.executionTimers = new Timer[types][ExecutionStatus.values().length];
+        this.fireLagTimers = new Timer[types];
+        for (int type = 0; type < types; type++) {
+            String typeTag = type < TASK_TYPES.length ? TASK_TYPES[type].name() : "UNKNOWN";
+            for (ExecutionStatus status : ExecutionStatus.values()) {
+                executionTimers[type][status.ordinal()] = Timer.builder("task.execution")
+                        .description("Task executions by type and outcome")
+                        .tag("taskType", typeTag)
+                        .tag("status", status.name())
+                        .register(meterRegistry);
+            }
+            fireLagTimers[type] = Timer.builder("task.fire.lag")
+                    .description("Actual minus scheduled fire time of task triggers")
+                    .tag("taskType", typeTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    void recordExecution(int type, ExecutionStatus status, long nanos) {
+        executionTimers[type][status.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordFireLag(int type, long lagMs) {
+        fireLagTimers[type].record(Math.max(0, lagMs), TimeUnit.MILLISECONDS);
+    }
+}
@@ -3,11 +3,13 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repos
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskExecutionRepository extends JpaRepository<TaskExecution, Long> {
@@ -15,4 +17,10 @@ public interface TaskExecutionRepository extends JpaRepository<TaskExecution, Lo
     List<TaskExecution> findByTaskIdAndStatus(Long taskId, ExecutionStatus status);
     List<TaskExecution> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
 
+    // newest first, keyset paged on id; type is TaskExecutionSummary or TaskExecution
+    <T> List<T> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long beforeId, Limit limit, Class<T> type);
+    <T> List<T> findByTaskIdAndStatusAndIdLessThanOrderByIdDesc(Long taskId, ExecutionStatus status, Long beforeId,
+                                                                Limit limit, Class<T> type);
+
+    Optional<TaskExecution> findByIdAndTaskId(Long id, Long taskId);
 }
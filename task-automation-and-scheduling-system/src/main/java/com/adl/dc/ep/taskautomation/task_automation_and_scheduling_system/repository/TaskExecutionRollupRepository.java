@@ -0,0 +1,15 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecutionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskExecutionRollupRepository extends JpaRepository<TaskExecutionRollup, Long> {
+    List<TaskExecutionRollup> findByTaskIdAndBucketStartBetweenOrderByBucketStart(Long taskId,
+                                                                                  LocalDateTime from,
+                                                                                  LocalDateTime to);
+}
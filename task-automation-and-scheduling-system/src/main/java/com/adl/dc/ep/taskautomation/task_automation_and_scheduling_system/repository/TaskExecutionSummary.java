@@ -0,0 +1,18 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of a TaskExecution: queries returning it select only these columns
+ * and leave the 5000 character error_message and result behind.
+ */
+public interface TaskExecutionSummary {
+    Long getId();
+    Long getTaskId();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+    ExecutionStatus getStatus();
+    Integer getAttempt();
+}
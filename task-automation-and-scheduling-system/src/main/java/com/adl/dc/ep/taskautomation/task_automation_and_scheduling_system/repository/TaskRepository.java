@@ -2,6 +2,8 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repos
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -10,4 +12,15 @@ public interface TaskRepository  extends JpaRepository<Task, Long> {
     List<Task> findByUserId(Long userId);
     List<Task> findByUserIdAndStatus(Long userId, TaskStatus status);
     List<Task> findByStatus(TaskStatus status);
+
+    // keyset pages: the next page starts after the last id of the previous one,
+    // one query per filter combination so each gets its own index range scan
+    List<Task> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+    List<Task> findByUserIdAndStatusAndIdGreaterThanOrderByIdAsc(Long userId, TaskStatus status, Long afterId,
+                                                                  Limit limit);
+    List<Task> findByUserIdAndTaskTypeAndIdGreaterThanOrderByIdAsc(Long userId, TaskType taskType, Long afterId,
+                                                                    Limit limit);
+    List<Task> findByUserIdAndStatusAndTaskTypeAndIdGreaterThanOrderByIdAsc(Long userId, TaskStatus status,
+                                                                             TaskType taskType, Long afterId,
+                                                                             Limit limit);
 }
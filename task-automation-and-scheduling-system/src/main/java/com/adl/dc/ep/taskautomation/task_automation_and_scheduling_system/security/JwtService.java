@@ -1,9 +1,14 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -18,6 +23,10 @@ import io.jsonwebtoken.Claims;
 @Service
 public class JwtService {
 
+    // principal claims added for users, read back when jwt.stateless-principal is on
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ENABLED = "enabled";
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -26,6 +35,21 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // decoded once; the parser is immutable and safe to share between request threads
+    private Key signInKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        String secret = secretKey.startsWith("JWT_SECRET:")
+                ? secretKey.substring("JWT_SECRET:".length()).trim()
+                : secretKey;
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -36,7 +60,13 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getId() != null && user.getRole() != null) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_ENABLED, user.isEnabled());
+        }
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -49,37 +79,59 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * check claims returned by {@link #extractValidClaims} against the loaded user,
+     * without parsing the token again.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * verify the signature and expiry of a token and return its claims, parsing it once.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims extractValidClaims(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * the user a verified token was issued to, built from its claims without a database lookup.
+     *
+     * @return {User} without email or password, null for tokens issued before the claims were added
+     */
+    public User extractPrincipal(Claims claims) {
+        Object userId = claims.get(CLAIM_USER_ID);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (!(userId instanceof Number id) || role == null || claims.getSubject() == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(id.longValue());
+        user.setUsername(claims.getSubject());
+        user.setRole(Role.valueOf(role));
+        user.setEnabled(!Boolean.FALSE.equals(claims.get(CLAIM_ENABLED, Boolean.class)));
+        return user;
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private Key getSignInKey() {
-     
-        if (secretKey.startsWith("JWT_SECRET:")) {
-            secretKey = secretKey.substring("JWT_SECRET:".length()).trim();
-        }
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
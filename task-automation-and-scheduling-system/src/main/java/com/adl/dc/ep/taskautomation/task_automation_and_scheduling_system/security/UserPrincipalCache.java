@@ -0,0 +1,117 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Whether a user may still authenticate, for tokens that carry the principal in their
+ * claims (jwt.stateless-principal).
+ *
+ * The enabled flag is read from the database at most once per user every
+ * {@code ttl-seconds}, so disabling a user takes effect on other nodes within that
+ * window. {@link #revoke} takes effect on this node straight away.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Cached> users = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${jwt.user-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${jwt.user-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public UserPrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("user.cache.size", users, Map::size)
+                .description("Users whose enabled flag is currently cached")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.cache.requests")
+                .description("Enabled checks for stateless principals by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param userId id from the token's uid claim
+     * @return false if the user was disabled, revoked or deleted
+     */
+    public boolean isEnabled(Long userId) {
+        Cached cached = users.get(userId);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            hits.increment();
+            return cached.enabled();
+        }
+        misses.increment();
+        boolean enabled = userRepository.findById(userId)
+                .map(User::isEnabled)
+                .orElse(false);
+        evictIfFull();
+        Cached fresh = new Cached(enabled, expiresAt());
+        // a revoke that landed while we were reading wins
+        if (cached == null) {
+            users.putIfAbsent(userId, fresh);
+        } else {
+            users.replace(userId, cached, fresh);
+        }
+        return enabled;
+    }
+
+    /**
+     * reject the user's tokens on this node until the entry expires and the database is read again.
+     */
+    public void revoke(Long userId) {
+        users.put(userId, new Cached(false, expiresAt()));
+    }
+
+    /**
+     * forget the user, e.g. after re-enabling them, so the next request reads the database.
+     */
+    public void invalidate(Long userId) {
+        users.remove(userId);
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    private void evictIfFull() {
+        if (users.size() < maxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        users.values().removeIf(cached -> cached.isExpired(now));
+
+        Iterator<Long> keys = users.keySet().iterator();
+        while (users.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Cached(boolean enabled, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
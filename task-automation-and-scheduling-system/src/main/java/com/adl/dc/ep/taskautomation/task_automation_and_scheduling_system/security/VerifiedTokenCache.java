@@ -0,0 +1,115 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Claims of bearer tokens that have already passed signature verification, so a client
+ * sending the same token many times a second pays for the HMAC once.
+ *
+ * Entries are keyed by the SHA-256 of the token, never the token itself, and are
+ * dropped at the token's own expiry or after {@code ttl-seconds}, whichever is first.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final Map<String, Verified> tokens = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${jwt.token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.token-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${jwt.token-cache.max-entries:10000}")
+    private int maxEntries;
+
+    public VerifiedTokenCache(JwtService jwtService, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("jwt.token.cache.size", tokens, Map::size)
+                .description("Verified bearer tokens currently cached")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.token.cache.requests")
+                .description("Bearer token verifications by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * claims of a token, verified with {@link JwtService#extractValidClaims} unless the
+     * same token was verified before and hasn't expired.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims verify(String token) {
+        if (!enabled) {
+            return jwtService.extractValidClaims(token);
+        }
+        String key = sha256(token);
+        long now = System.currentTimeMillis();
+        Verified verified = tokens.get(key);
+        if (verified != null) {
+            if (now < verified.expiresAtMillis()) {
+                hits.increment();
+                return verified.claims();
+            }
+            tokens.remove(key, verified);
+        }
+        misses.increment();
+
+        Claims claims = jwtService.extractValidClaims(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            evictIfFull(now);
+            long expiresAt = Math.min(expiration.getTime(), now + ttlSeconds * 1000);
+            tokens.put(key, new Verified(claims, expiresAt));
+        }
+        return claims;
+    }
+
+    private void evictIfFull(long now) {
+        if (tokens.size() < maxEntries) {
+            return;
+        }
+        tokens.values().removeIf(verified -> now >= verified.expiresAtMillis());
+
+        Iterator<String> keys = tokens.keySet().iterator();
+        while (tokens.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Verified(Claims claims, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CircuitBreakerStatus;
+
+import java.util.List;
+
+public interface CircuitBreakerService {
+
+    /**
+     * check that a call to the host may go ahead. Every call let through must be
+     * followed by {@link #onSuccess} or {@link #onFailure}.
+     *
+     * @param host host[:port] about to be called
+     * @throws com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException if calls to the host are short-circuited
+     */
+    void acquire(String host);
+
+    /**
+     * @param host host[:port] that answered
+     */
+    void onSuccess(String host);
+
+    /**
+     * @param host host[:port] that failed to answer or answered with a server error
+     */
+    void onFailure(String host);
+
+    /**
+     * @return {List} breakers of the hosts called recently on this node
+     */
+    List<CircuitBreakerStatus> getStatuses();
+
+    /**
+     * close the host's breaker and forget its recent outcomes.
+     *
+     * @param host host[:port]
+     * @return false if there was no breaker for the host
+     */
+    boolean reset(String host);
+}
@@ -0,0 +1,23 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramReport;
+
+public interface CronSmearingService {
+
+    /**
+     * per-second firing counts of the active tasks from now, with their crons as written
+     * and with smearing applied.
+     *
+     * @param hours how far ahead to project, capped at task-smearing.report.max-hours
+     * @return {FiringHistogramReport} both histograms and their peaks
+     */
+    FiringHistogramReport getFiringHistogram(int hours);
+
+    /**
+     * bring the triggers of existing tasks in line with the current smearing setting,
+     * e.g. after turning it on or changing the window.
+     *
+     * @return number of triggers rescheduled
+     */
+    int applyToScheduledTasks();
+}
@@ -0,0 +1,25 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ExecutionEventService {
+
+    /**
+     * open a stream of the user's execution state changes.
+     *
+     * @param userId owner of the tasks to follow
+     * @return emitter to hand back from the controller
+     */
+    SseEmitter subscribe(Long userId);
+
+    /**
+     * push the current state of an execution to the owner's subscribers on this node.
+     * Never blocks; subscribers that can't keep up miss events instead.
+     *
+     * @param userId         owner of the task
+     * @param fireInstanceId Quartz fire instance id, the same for every event of one execution
+     * @param execution      execution in its current state
+     */
+    void publish(Long userId, String fireInstanceId, TaskExecution execution);
+}
@@ -0,0 +1,25 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+public interface ExecutionHistoryService {
+
+    /**
+     * create the task_executions partitions for the current and upcoming periods.
+     * does nothing when the table is not partitioned.
+     */
+    void ensurePartitions();
+
+    /**
+     * recompute the hourly rollups for recent hours.
+     */
+    void refreshRollups();
+
+    /**
+     * remove execution history older than the retention period.
+     */
+    void applyRetention();
+
+    /**
+     * run all maintenance steps, rollups before retention so nothing is dropped unsummarised.
+     */
+    void runMaintenance();
+}
@@ -0,0 +1,35 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+
+import java.time.LocalDateTime;
+
+public interface ExecutionJournalService {
+
+    /**
+     * record that an execution started.
+     *
+     * @param execution execution in RUNNING state
+     */
+    void recordStarted(TaskExecution execution);
+
+    /**
+     * record the final state of an execution.
+     *
+     * @param execution execution in its final state
+     */
+    void recordFinished(TaskExecution execution);
+
+    /**
+     * record a successful run of a task (tasks.last_executed_at).
+     *
+     * @param taskId     task id
+     * @param executedAt time of the run
+     */
+    void recordTaskExecuted(Long taskId, LocalDateTime executedAt);
+
+    /**
+     * write everything buffered so far.
+     */
+    void flush();
+}
@@ -0,0 +1,48 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExportLimitExceededException;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ExportService {
+
+    /**
+     * claim one of the {@code export.max-concurrent} export slots. An export holds a database
+     * connection for as long as it streams, so exports are capped to leave the pool to the scheduler.
+     *
+     * @return {Slot} to close once the export has been written
+     * @throws ExportLimitExceededException when every slot is taken
+     */
+    Slot acquireSlot();
+
+    /**
+     * write a user's tasks as NDJSON (one TaskResponse per line), streaming from the database.
+     *
+     * @param userId owner of the tasks
+     * @param out    response body, not closed
+     * @return {long} number of tasks written
+     */
+    long exportTasks(Long userId, OutputStream out);
+
+    /**
+     * write the executions of a user's tasks as NDJSON (one TaskExecutionResponse per line),
+     * streaming from the database.
+     *
+     * @param userId owner of the tasks
+     * @param taskId only executions of this task, null for all of the user's tasks
+     * @param from   only executions started at or after this time, null for no lower bound
+     * @param to     only executions started before this time, null for no upper bound
+     * @param out    response body, not closed
+     * @return {long} number of executions written
+     */
+    long exportExecutions(Long userId, Long taskId, LocalDateTime from, LocalDateTime to, OutputStream out);
+
+    /**
+     * a running export's claim on a slot; closing it more than once is harmless.
+     */
+    interface Slot extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
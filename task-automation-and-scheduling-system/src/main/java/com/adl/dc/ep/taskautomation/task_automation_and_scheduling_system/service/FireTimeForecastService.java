@@ -0,0 +1,26 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CapacityForecast;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ForecastResolution;
+
+public interface FireTimeForecastService {
+
+    /**
+     * index the task's trigger cron, replacing what was indexed for it before.
+     * Tasks that aren't ACTIVE are removed instead. Inside a transaction this takes
+     * effect once it commits, as does remove.
+     */
+    void put(Task task);
+
+    void remove(Long taskId);
+
+    /**
+     * projected executions of the indexed tasks from now.
+     *
+     * @param hours how far ahead to project, capped at capacity-forecast.max-hours
+     * @param resolution size of the returned buckets; peaks are reported at both
+     * @return {CapacityForecast} the buckets, their peaks and the concurrency they imply
+     */
+    CapacityForecast getForecast(int hours, ForecastResolution resolution);
+}
@@ -0,0 +1,45 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+public interface HttpService {
+
+    /**
+     * GET the url and return the body as text.
+     *
+     * @param url absolute url
+     * @return {String} response body
+     */
+    String getForString(String url);
+
+    /**
+     * GET the url without blocking the caller.
+     *
+     * @param url absolute url
+     * @return {CompletableFuture} completing with the response body
+     */
+    CompletableFuture<String> getForStringAsync(String url);
+
+    /**
+     * GET the url and map the JSON body.
+     *
+     * @param url          absolute, already encoded url
+     * @param responseType type to map the body to
+     * @return {T} mapped body
+     */
+    <T> T getForObject(String url, Class<T> responseType);
+
+    /**
+     * key outbound calls are grouped by for circuit breaking and rate limiting; two
+     * services on one machine count as different hosts.
+     *
+     * @param uri absolute uri
+     * @return {String} lower-case host, with the port if the uri has one
+     */
+    static String hostOf(URI uri) {
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : String.valueOf(uri.getAuthority());
+        return uri.getPort() != -1 ? host + ":" + uri.getPort() : host;
+    }
+}
@@ -0,0 +1,19 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import org.springframework.mail.SimpleMailMessage;
+
+public interface MailDispatchService {
+
+    /**
+     * queue a message for delivery over one of the pooled SMTP sessions.
+     * blocks briefly when the queue is full and then sends on the caller's thread.
+     *
+     * @param message message to send
+     */
+    void dispatch(SimpleMailMessage message);
+
+    /**
+     * @return {int} messages waiting to be sent
+     */
+    int getQueueSize();
+}
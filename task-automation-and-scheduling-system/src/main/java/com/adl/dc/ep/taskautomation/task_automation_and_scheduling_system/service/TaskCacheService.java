@@ -0,0 +1,38 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+
+import java.util.Optional;
+
+public interface TaskCacheService {
+
+    /**
+     * cached copy of a task definition, read from the database on a miss.
+     *
+     * @param taskId task id
+     * @return {Optional} the task, empty if it doesn't exist
+     */
+    Optional<Task> getTask(Long taskId);
+
+    /**
+     * cached email address of a user, read from the database on a miss.
+     *
+     * @param userId user id
+     * @return {Optional} the email address, empty if the user doesn't exist
+     */
+    Optional<String> getUserEmail(Long userId);
+
+    /**
+     * cache a task that was created or updated, once the surrounding transaction commits.
+     *
+     * @param task saved task
+     */
+    void put(Task task);
+
+    /**
+     * drop a task from the cache, now and again once the surrounding transaction commits.
+     *
+     * @param taskId task id
+     */
+    void evict(Long taskId);
+}
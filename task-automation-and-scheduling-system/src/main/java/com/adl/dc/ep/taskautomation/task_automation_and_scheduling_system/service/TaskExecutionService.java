@@ -0,0 +1,44 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionRollupResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskExecutionService {
+
+    /**
+     * one page of a task's executions, newest first.
+     *
+     * @param taskId  task of the current user
+     * @param cursor  nextCursor of the previous page, null for the newest executions
+     * @param size    page size, capped at task-page.max-size
+     * @param status  only executions with this status, null for any
+     * @param details also return errorMessage and result, which are otherwise not read
+     * @return {TaskExecutionPageResponse}
+     */
+    TaskExecutionPageResponse getExecutions(Long taskId, Long cursor, int size, ExecutionStatus status,
+                                            boolean details);
+
+    /**
+     * a single execution including errorMessage and result.
+     *
+     * @param taskId      task of the current user
+     * @param executionId execution id
+     * @return {TaskExecutionResponse}
+     */
+    TaskExecutionResponse getExecution(Long taskId, Long executionId);
+
+    /**
+     * hourly execution rollups of a task, oldest first.
+     *
+     * @param taskId task of the current user
+     * @param from   first bucket, null for 24 hours before to; at most execution-history.rollup-max-days before to
+     * @param to     last bucket, null for now
+     * @return {TaskExecutionRollupResponse}
+     */
+    List<TaskExecutionRollupResponse> getRollups(Long taskId, LocalDateTime from, LocalDateTime to);
+}
@@ -1,7 +1,12 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskResult;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskUpdateItem;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,5 +23,43 @@ public interface TaskService {
 
     TaskResponse getTask(Long taskId);
 
-    List<TaskResponse> getAllUserTasks();
+    /**
+     * one page of the current user's tasks in id order.
+     *
+     * @param cursor   nextCursor of the previous page, null for the first page
+     * @param size     page size, capped at task-page.max-size
+     * @param status   only tasks with this status, null for any
+     * @param taskType only tasks of this type, null for any
+     * @return {TaskPageResponse}
+     */
+    TaskPageResponse getUserTaskPage(Long cursor, int size, TaskStatus status, TaskType taskType);
+
+    /**
+     * creates the valid requests with one batched insert and registers their jobs with the
+     * scheduler in a single call. Invalid items are reported and skipped.
+     *
+     * @param requests at most task-bulk.max-items tasks
+     * @return one result per request, in request order
+     */
+    @Transactional
+    List<BulkTaskResult> bulkCreateTasks(List<TaskRequest> requests);
+
+    /**
+     * updates the current user's tasks and replaces their jobs and triggers in a single
+     * scheduler call. Unknown ids and invalid items are reported and skipped.
+     *
+     * @param items at most task-bulk.max-items updates
+     * @return one result per item, in request order
+     */
+    @Transactional
+    List<BulkTaskResult> bulkUpdateTasks(List<BulkTaskUpdateItem> items);
+
+    /**
+     * deletes the current user's tasks and their jobs. Unknown ids are reported and skipped.
+     *
+     * @param taskIds at most task-bulk.max-items ids
+     * @return one result per id, in request order
+     */
+    @Transactional
+    List<BulkTaskResult> bulkDeleteTasks(List<Long> taskIds);
 }
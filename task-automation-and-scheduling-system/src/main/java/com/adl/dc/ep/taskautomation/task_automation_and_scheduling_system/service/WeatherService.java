@@ -0,0 +1,14 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
+
+public interface WeatherService {
+
+    /**
+     * current weather for a location.
+     *
+     * @param location city name as entered by the user
+     * @return {OpenWeatherResponseDto} with a non-null main section
+     */
+    OpenWeatherResponseDto getCurrentWeather(String location);
+}
@@ -0,0 +1,241 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CircuitBreakerStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.CircuitState;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CircuitBreakerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One circuit breaker per outbound host, so a host that is down fails calls straight
+ * away instead of holding a worker thread until the socket times out.
+ *
+ * A breaker trips OPEN once at least {@code minimum-calls} of the last
+ * {@code window-size} calls are recorded and {@code failure-rate-threshold} percent of
+ * them failed. After {@code open-duration-ms} it goes HALF_OPEN and lets
+ * {@code half-open-calls} probes through: one failure opens it again, all of them
+ * succeeding closes it with an empty window.
+ *
+ * State is per node. Metrics: {@code http.circuit.hosts} counts hosts by state,
+ * {@code http.circuit.opened} counts trips and {@code http.circuit.rejected} counts
+ * short-circuited calls; per-host detail is in {@link #getStatuses}.
+ */
+@Service
+public class CircuitBreakerServiceImpl implements CircuitBreakerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerServiceImpl.class);
+
+    private final Map<String, HostCircuit> circuits = new ConcurrentHashMap<>();
+    private final Counter opened;
+    private final Counter rejected;
+
+    @Value("${http.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${http.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${http.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${http.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${http.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${http.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${http.circuit-breaker.max-hosts:1000}")
+    private int maxHosts;
+
+    public CircuitBreakerServiceImpl(MeterRegistry meterRegistry) {
+        this.opened = Counter.builder("http.circuit.opened")
+                .description("Circuit breakers tripped open")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("http.circuit.rejected")
+                .description("Outbound calls short-circuited by an open breaker")
+                .register(meterRegistry);
+        for (CircuitState state : CircuitState.values()) {
+            Gauge.builder("http.circuit.hosts", circuits, c -> count(c, state))
+                    .description("Outbound hosts by circuit breaker state")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static long count(Map<String, HostCircuit> circuits, CircuitState state) {
+        return circuits.values().stream().filter(circuit -> circuit.state == state).count();
+    }
+
+    @Override
+    public void acquire(String host) {
+        if (!enabled) {
+            return;
+        }
+        HostCircuit circuit = circuits.get(host);
+        // no breaker yet means nothing has failed
+        if (circuit != null && !circuit.tryAcquire(System.nanoTime())) {
+            rejected.increment();
+            throw new CircuitOpenException("Circuit breaker open for " + host);
+        }
+    }
+
+    @Override
+    public void onSuccess(String host) {
+        record(host, false);
+    }
+
+    @Override
+    public void onFailure(String host) {
+        record(host, true);
+    }
+
+    private void record(String host, boolean failed) {
+        if (!enabled) {
+            return;
+        }
+        HostCircuit circuit = circuits.get(host);
+        if (circuit == null) {
+            evictIfFull();
+            circuit = circuits.computeIfAbsent(host, HostCircuit::new);
+        }
+        circuit.record(failed, System.nanoTime());
+    }
+
+    @Override
+    public List<CircuitBreakerStatus> getStatuses() {
+        long now = System.nanoTime();
+        return circuits.values().stream()
+                .map(circuit -> circuit.status(now))
+                .sorted(Comparator.comparing(CircuitBreakerStatus::getHost))
+                .toList();
+    }
+
+    @Override
+    public boolean reset(String host) {
+        boolean removed = circuits.remove(host) != null;
+        if (removed) {
+            logger.info("Circuit reset | host={}", host);
+        }
+        return removed;
+    }
+
+    // a closed breaker only holds a window of outcomes; an open one is kept, dropping it
+    // would send calls to a host that is known to be down
+    private void evictIfFull() {
+        if (circuits.size() < maxHosts) {
+            return;
+        }
+        circuits.values().removeIf(circuit -> circuit.state == CircuitState.CLOSED);
+        if (circuits.size() >= maxHosts) {
+            logger.debug("All {} circuit breakers are open or half open, going over max-hosts", circuits.size());
+        }
+    }
+
+    private final class HostCircuit {
+
+        private final String host;
+        // ring of the last window-size outcomes, true = failed
+        private final boolean[] window = new boolean[Math.max(1, windowSize)];
+        private int next;
+        private int calls;
+        private int failures;
+        private volatile CircuitState state = CircuitState.CLOSED;
+        private long openedAtNanos;
+        private int probes;
+        private int probeSuccesses;
+
+        private HostCircuit(String host) {
+            this.host = host;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (state == CircuitState.OPEN) {
+                if (now - openedAtNanos < TimeUnit.MILLISECONDS.toNanos(openDurationMs)) {
+                    return false;
+                }
+                state = CircuitState.HALF_OPEN;
+                probes = 0;
+                probeSuccesses = 0;
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (probes >= halfOpenCalls) {
+                    return false;
+                }
+                probes++;
+            }
+            return true;
+        }
+
+        synchronized void record(boolean failed, long now) {
+            switch (state) {
+                case OPEN -> {
+                    // a call that started before the breaker opened
+                }
+                case HALF_OPEN -> {
+                    if (failed) {
+                        open(now);
+                    } else if (++probeSuccesses >= halfOpenCalls) {
+                        close();
+                    }
+                }
+                case CLOSED -> {
+                    if (calls == window.length) {
+                        failures -= window[next] ? 1 : 0;
+                    } else {
+                        calls++;
+                    }
+                    window[next] = failed;
+                    failures += failed ? 1 : 0;
+                    next = (next + 1) % window.length;
+                    if (calls >= minimumCalls && failures * 100L >= (long) failureRateThreshold * calls) {
+                        open(now);
+                    }
+                }
+            }
+        }
+
+        private void open(long now) {
+            logger.warn("Circuit opened | host={} | failures={}/{} | openForMs={}",
+                    host, failures, calls, openDurationMs);
+            state = CircuitState.OPEN;
+            openedAtNanos = now;
+            opened.increment();
+        }
+
+        private void close() {
+            logger.info("Circuit closed | host={}", host);
+            state = CircuitState.CLOSED;
+            Arrays.fill(window, false);
+            next = 0;
+            calls = 0;
+            failures = 0;
+        }
+
+        synchronized CircuitBreakerStatus status(long now) {
+            LocalDateTime openUntil = null;
+            if (state == CircuitState.OPEN) {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(openDurationMs) - (now - openedAtNanos);
+                openUntil = LocalDateTime.now().plusNanos(Math.max(0, remaining));
+            }
+            double failureRate = calls == 0 ? 0.0 : failures * 100.0 / calls;
+            return new CircuitBreakerStatus(host, state, calls, failures, failureRate, openUntil);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import org.quartz.CronExpression;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Projects cron firings onto a per-second histogram, for the smearing report and the
+ * capacity forecast.
+ */
+final class CronFirings {
+
+    private CronFirings() {
+    }
+
+    /**
+     * adds weight to every second of the histogram the expression fires in, from start.
+     *
+     * @param weight tasks sharing the expression, each firing counts this many times
+     * @return {long} firings counted, weight included; 0 for an invalid expression
+     */
+    static long count(String cronExpression, int weight, Date start, int[] histogram) {
+        CronExpression cron;
+        try {
+            cron = new CronExpression(cronExpression);
+        } catch (ParseException e) {
+            return 0;
+        }
+        long end = start.getTime() + histogram.length * 1000L;
+        long count = 0;
+        // getNextValidTimeAfter is exclusive, start one ms early to include a firing at start
+        Date next = cron.getNextValidTimeAfter(new Date(start.getTime() - 1));
+        while (next != null && next.getTime() < end) {
+            histogram[(int) ((next.getTime() - start.getTime()) / 1000)] += weight;
+            count += weight;
+            next = cron.getNextValidTimeAfter(next);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,119 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramBucket;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramReport;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CronSmearingService;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CronSmearingServiceImpl implements CronSmearingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CronSmearingServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final Scheduler scheduler;
+    private final CronSmearing cronSmearing;
+
+    // the projection walks every firing of every distinct cron, keep it to a day
+    @Value("${task-smearing.report.max-hours:24}")
+    private int maxReportHours;
+
+    public CronSmearingServiceImpl(TaskRepository taskRepository, Scheduler scheduler, CronSmearing cronSmearing) {
+        this.taskRepository = taskRepository;
+        this.scheduler = scheduler;
+        this.cronSmearing = cronSmearing;
+    }
+
+    @Override
+    public FiringHistogramReport getFiringHistogram(int hours) {
+        int period = Math.clamp(hours, 1, Math.max(1, maxReportHours)) * 3600;
+        // whole seconds, the finest a cron fires at
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Date start = toDate(from);
+        int[] before = new int[period];
+        int[] after = new int[period];
+
+        // tasks sharing a cron fire together, so walk each distinct cron once and weigh it by its tasks
+        List<Task> tasks = taskRepository.findByStatus(TaskStatus.ACTIVE);
+        Map<String, Integer> crons = new HashMap<>();
+        Map<String, Integer> smearedCrons = new HashMap<>();
+        for (Task task : tasks) {
+            if (task.getCronExpression() == null) {
+                continue;
+            }
+            crons.merge(task.getCronExpression(), 1, Integer::sum);
+            smearedCrons.merge(cronSmearing.smeared(task.getId(), task.getCronExpression()), 1, Integer::sum);
+        }
+        long firings = 0;
+        for (Map.Entry<String, Integer> cron : crons.entrySet()) {
+            firings += CronFirings.count(cron.getKey(), cron.getValue(), start, before);
+        }
+        for (Map.Entry<String, Integer> cron : smearedCrons.entrySet()) {
+            CronFirings.count(cron.getKey(), cron.getValue(), start, after);
+        }
+
+        List<FiringHistogramBucket> seconds = new ArrayList<>();
+        int peakBefore = 0;
+        int peakAfter = 0;
+        for (int second = 0; second < period; second++) {
+            if (before[second] > 0 || after[second] > 0) {
+                seconds.add(new FiringHistogramBucket(from.plusSeconds(second), before[second], after[second]));
+                peakBefore = Math.max(peakBefore, before[second]);
+                peakAfter = Math.max(peakAfter, after[second]);
+            }
+        }
+        return new FiringHistogramReport(from, from.plusSeconds(period), cronSmearing.isEnabled(),
+                cronSmearing.getWindowSeconds(), tasks.size(), firings, peakBefore, peakAfter, seconds);
+    }
+
+    @Override
+    public int applyToScheduledTasks() {
+        int rescheduled = 0;
+        for (Task task : taskRepository.findByStatus(TaskStatus.ACTIVE)) {
+            TriggerKey key = TriggerKey.triggerKey(task.getId().toString(), "user-triggers");
+            String cron = cronSmearing.triggerCron(task.getId(), task.getCronExpression());
+            try {
+                Trigger trigger = scheduler.getTrigger(key);
+                if (!(trigger instanceof CronTrigger cronTrigger) || cron.equals(cronTrigger.getCronExpression())) {
+                    continue;
+                }
+                Trigger updated = cronTrigger.getTriggerBuilder()
+                        .withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing())
+                        .build();
+                scheduler.rescheduleJob(key, updated);
+                rescheduled++;
+            } catch (SchedulerException | RuntimeException e) {
+                logger.warn("Failed to reschedule trigger | taskId={} | cron='{}'", task.getId(), cron, e);
+            }
+        }
+        logger.info("Cron smearing applied | enabled={} | windowSeconds={} | rescheduled={}",
+                cronSmearing.isEnabled(), cronSmearing.getWindowSeconds(), rescheduled);
+        return rescheduled;
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -1,14 +1,14 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config.AsyncConfig;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.EmailService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.MailDispatchService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -18,14 +18,14 @@ import java.util.Optional;
 public class EmailServiceImpl implements EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailServiceImpl.class);
-    private final JavaMailSender mailSender;
-    private final UserRepository userRepository;
+    private final MailDispatchService mailDispatchService;
+    private final TaskCacheService taskCache;
     @Value("${spring.mail.username}")
     private String fromEmail;
 
-    public EmailServiceImpl(JavaMailSender mailSender, UserRepository userRepository) {
-        this.mailSender = mailSender;
-        this.userRepository = userRepository;
+    public EmailServiceImpl(MailDispatchService mailDispatchService, TaskCacheService taskCache) {
+        this.mailDispatchService = mailDispatchService;
+        this.taskCache = taskCache;
     }
 
     @Override
@@ -34,19 +34,21 @@ public class EmailServiceImpl implements EmailService {
     }
 
 
-    @Async
+    // runs on the bounded notification executor so the Quartz thread doesn't wait for the owner lookup and SMTP
+    @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendTaskNotification(Task task) {
         logger.info("sendTaskNotification start");
 
-        Optional<User> user = userRepository.findById(task.getUserId());
+        Optional<String> ownerEmail = taskCache.getUserEmail(task.getUserId());
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(fromEmail);
-            user.ifPresent(value -> message.setTo(value.getEmail()));
+            ownerEmail.ifPresent(message::setTo);
             message.setSubject("Task Executed: " + task.getName());
             message.setText("Your scheduled task '" + task.getName() + "' has been executed successfully.");
             logger.info("sendTaskNotification mid");
-            mailSender.send(message);
+            mailDispatchService.dispatch(message);
         } catch (Exception e) {
             logger.info("sendTaskNotification something went wrong");
             logger.info(e.getMessage());
@@ -63,7 +65,7 @@ public class EmailServiceImpl implements EmailService {
             message.setTo(to);
             message.setSubject(subject);
             message.setText(body);
-            mailSender.send(message);
+            mailDispatchService.dispatch(message);
         } catch (Exception e) {
             logger.warn("Failed to send email to {}: {}", to, e.getMessage());
         }
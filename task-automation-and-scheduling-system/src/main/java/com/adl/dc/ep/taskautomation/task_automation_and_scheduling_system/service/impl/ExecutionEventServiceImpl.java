@@ -0,0 +1,226 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ExecutionEventResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of execution state changes to SSE subscribers.
+ *
+ * Each subscriber has a bounded buffer drained by its own virtual thread, so a slow or
+ * stalled client only ever blocks itself. When a buffer is full the event is dropped for
+ * that subscriber and it gets a {@code dropped} event with the count before the next one,
+ * telling the dashboard to refresh from the API. Only executions fired on this node are
+ * seen; in a cluster a client gets the events of the node it is connected to.
+ */
+@Service
+public class ExecutionEventServiceImpl implements ExecutionEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionEventServiceImpl.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter published;
+    private final Counter dropped;
+
+    @Value("${execution-events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${execution-events.max-subscribers-per-user:5}")
+    private int maxSubscribersPerUser;
+
+    @Value("${execution-events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${execution-events.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    public ExecutionEventServiceImpl(MeterRegistry meterRegistry) {
+        this.published = Counter.builder("execution.events.published")
+                .description("Execution events queued for SSE subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("execution.events.dropped")
+                .description("Execution events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("execution.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open execution event streams")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(userId, emitter);
+        return emitter;
+    }
+
+    Subscriber register(Long userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        Set<Subscriber> userSubscribers = subscribers.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        userSubscribers.add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        // one more tab than allowed closes the oldest stream rather than refusing the new one
+        List<Subscriber> open = List.copyOf(userSubscribers);
+        for (int i = 0; i < open.size() - maxSubscribersPerUser; i++) {
+            open.get(i).emitter().complete();
+            remove(open.get(i));
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        Thread.ofVirtual().name("execution-events-" + userId).start(() -> send(subscriber));
+        logger.debug("Execution event subscriber added | userId={} | subscribers={}", userId, subscriberCount.get());
+        return subscriber;
+    }
+
+    @Override
+    public void publish(Long userId, String fireInstanceId, TaskExecution execution) {
+        if (userId == null) {
+            return;
+        }
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null || userSubscribers.isEmpty()) {
+            return;
+        }
+        // a snapshot: the job keeps changing the execution after this call
+        ExecutionEventResponse event = toEvent(fireInstanceId, execution);
+        for (Subscriber subscriber : userSubscribers) {
+            if (subscriber.queue().offer(event)) {
+                published.increment();
+            } else {
+                subscriber.dropped().incrementAndGet();
+                dropped.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            subscriber.emitter().complete();
+            remove(subscriber);
+        }));
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            while (subscriber.isOpen()) {
+                ExecutionEventResponse event = subscriber.queue().poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                if (!subscriber.isOpen()) {
+                    break;
+                }
+                if (event == null) {
+                    // keeps proxies from closing an idle stream and finds clients that went away
+                    subscriber.emitter().send(SseEmitter.event().comment("keep-alive"));
+                    continue;
+                }
+                long missed = subscriber.dropped().getAndSet(0);
+                if (missed > 0) {
+                    subscriber.emitter().send(SseEmitter.event().name("dropped").data(missed));
+                }
+                subscriber.emitter().send(SseEmitter.event()
+                        .name("execution")
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Execution event subscriber gone | userId={} | {}", subscriber.userId(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.close()) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId(), (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    // never the id: the journal assigns it on its own thread, possibly while this runs
+    private static ExecutionEventResponse toEvent(String fireInstanceId, TaskExecution execution) {
+        ExecutionEventResponse event = new ExecutionEventResponse();
+        event.setFireInstanceId(fireInstanceId);
+        event.setTaskId(execution.getTaskId());
+        event.setStartTime(execution.getStartTime());
+        event.setEndTime(execution.getEndTime());
+        event.setStatus(execution.getStatus());
+        event.setErrorMessage(execution.getErrorMessage());
+        event.setResult(execution.getResult());
+        event.setAttempt(execution.getAttempt());
+        return event;
+    }
+
+    static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ExecutionEventResponse> queue;
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean open = true;
+
+        Subscriber(Long userId, SseEmitter emitter, BlockingQueue<ExecutionEventResponse> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        Long userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<ExecutionEventResponse> queue() {
+            return queue;
+        }
+
+        AtomicLong dropped() {
+            return dropped;
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+
+        // true for the first caller only
+        synchronized boolean close() {
+            if (!open) {
+                return false;
+            }
+            open = false;
+            return true;
+        }
+    }
+}
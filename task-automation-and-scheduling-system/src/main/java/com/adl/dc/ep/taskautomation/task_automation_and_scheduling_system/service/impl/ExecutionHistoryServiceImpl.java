@@ -0,0 +1,275 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps task_executions bounded and summarised.
+ *
+ * When the table has been converted to a range-partitioned table
+ * (db/task_executions_partitioning.sql), partitions are created ahead of time and
+ * whole partitions past the retention period are dropped, which is instant and leaves
+ * no dead rows behind. Retention is then partition-granular: a month is dropped once
+ * its last day is older than the retention period. On an unpartitioned table old rows
+ * are deleted in small batches instead.
+ *
+ * Ranges an attached partition already covers are skipped, so the granularity can be
+ * switched on a live table: after MONTHLY -> DAILY the existing months stay and the
+ * first uncovered day gets its own partition; after DAILY -> MONTHLY a partly covered
+ * month is filled in day by day.
+ *
+ * Hourly rollups are recomputed for the last {@code rollup-lookback-hours} on every run
+ * so executions that finish late are still counted.
+ */
+@Service
+public class ExecutionHistoryServiceImpl implements ExecutionHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionHistoryServiceImpl.class);
+
+    private static final String TABLE = "task_executions";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("task_executions_p(\\d{4})_(\\d{2})(?:_(\\d{2}))?");
+
+    private static final DateTimeFormatter MONTHLY_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter DAILY_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM_dd");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('" + TABLE + "'))";
+
+    // "FOR VALUES FROM ('2026-10-01 00:00:00') TO ('2026-11-01 00:00:00')", or "DEFAULT"
+    private static final Pattern PARTITION_BOUND = Pattern.compile(
+            "FOR VALUES FROM \\((?:'([^']*)'|MINVALUE)\\) TO \\((?:'([^']*)'|MAXVALUE)\\)");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass('%s')
+            """.formatted(TABLE);
+
+    private static final String CREATE_PARTITION_SQL =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF " + TABLE + " FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String DELETE_BATCH_SQL = """
+            DELETE FROM task_executions WHERE id IN (
+                SELECT id FROM task_executions WHERE start_time < ? LIMIT ?)
+            """;
+
+    private static final String LAST_ROLLUP_SQL = "SELECT MAX(bucket_start) FROM task_execution_rollups";
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO task_execution_rollups (task_id, bucket_start, execution_count, success_count,
+                                                failure_count, p50_duration_ms, p95_duration_ms, updated_at)
+            SELECT task_id,
+                   date_trunc('hour', start_time),
+                   count(*),
+                   count(*) FILTER (WHERE status = 'SUCCESS'),
+                   count(*) FILTER (WHERE status IN ('FAILED', 'CIRCUIT_OPEN')),
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (end_time - start_time)) * 1000),
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY EXTRACT(EPOCH FROM (end_time - start_time)) * 1000),
+                   ?
+            FROM task_executions
+            WHERE start_time >= ? AND start_time < ?
+            GROUP BY task_id, date_trunc('hour', start_time)
+            ON CONFLICT (task_id, bucket_start) DO UPDATE SET
+                execution_count = EXCLUDED.execution_count,
+                success_count = EXCLUDED.success_count,
+                failure_count = EXCLUDED.failure_count,
+                p50_duration_ms = EXCLUDED.p50_duration_ms,
+                p95_duration_ms = EXCLUDED.p95_duration_ms,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${execution-history.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${execution-history.partition-granularity:MONTHLY}")
+    private String partitionGranularity;
+
+    @Value("${execution-history.partitions-ahead:2}")
+    private int partitionsAhead;
+
+    @Value("${execution-history.delete-batch-size:5000}")
+    private int deleteBatchSize;
+
+    @Value("${execution-history.rollup-lookback-hours:3}")
+    private int rollupLookbackHours;
+
+    public ExecutionHistoryServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void runMaintenance() {
+        runStep("ensurePartitions", this::ensurePartitions);
+        runStep("refreshRollups", this::refreshRollups);
+        runStep("applyRetention", this::applyRetention);
+    }
+
+    @Override
+    public void ensurePartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        ChronoUnit unit = granularity();
+        List<Partition> attached = attachedPartitions();
+        LocalDate start = periodStart(LocalDate.now(), unit);
+        for (int i = 0; i <= partitionsAhead; i++) {
+            LocalDate from = start.plus(i, unit);
+            LocalDate to = from.plus(1, unit);
+            if (!isCovered(attached, from, to)) {
+                createPartition(partitionName(from, unit), from, to);
+            } else if (unit == ChronoUnit.MONTHS) {
+                for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                    if (!isCovered(attached, day, day.plusDays(1))) {
+                        createPartition(partitionName(day, ChronoUnit.DAYS), day, day.plusDays(1));
+                    }
+                }
+            }
+        }
+    }
+
+    // Postgres rejects a partition overlapping another one, so anything touching an attached range is left alone
+    private static boolean isCovered(List<Partition> attached, LocalDate from, LocalDate to) {
+        return attached.stream().anyMatch(partition -> partition.overlaps(from, to));
+    }
+
+    // one failure (e.g. rows for the range already sitting in the default partition) doesn't stop the rest
+    private void createPartition(String name, LocalDate from, LocalDate to) {
+        try {
+            jdbcTemplate.execute(CREATE_PARTITION_SQL.formatted(name, from, to));
+            logger.debug("Ensured partition {} [{}, {})", name, from, to);
+        } catch (DataAccessException e) {
+            logger.error("Couldn't create execution partition {} [{}, {}): {}", name, from, to, e.getMessage());
+        }
+    }
+
+    @Override
+    public void refreshRollups() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastBucket = jdbcTemplate.queryForObject(LAST_ROLLUP_SQL, LocalDateTime.class);
+        LocalDateTime from = lastBucket != null
+                ? lastBucket.minusHours(rollupLookbackHours)
+                : now.minusDays(retentionDays).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime to = now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+        // a day at a time so a first run over the whole history doesn't become one huge statement
+        int rows = 0;
+        for (LocalDateTime chunk = from; chunk.isBefore(to); chunk = chunk.plusDays(1)) {
+            LocalDateTime chunkEnd = chunk.plusDays(1).isBefore(to) ? chunk.plusDays(1) : to;
+            rows += jdbcTemplate.update(ROLLUP_SQL, now, chunk, chunkEnd);
+        }
+        logger.info("Refreshed {} hourly execution rollup(s) from {} to {}", rows, from, to);
+    }
+
+    @Override
+    public void applyRetention() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        if (isPartitioned()) {
+            dropExpiredPartitions(cutoff);
+        } else {
+            deleteExpiredRows(cutoff);
+        }
+    }
+
+    private void dropExpiredPartitions(LocalDateTime cutoff) {
+        for (Partition attached : attachedPartitions()) {
+            String partition = attached.name();
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue; // the default partition and anything created by hand
+            }
+            boolean daily = matcher.group(3) != null;
+            LocalDate from = LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                    daily ? Integer.parseInt(matcher.group(3)) : 1);
+            LocalDate to = from.plus(1, daily ? ChronoUnit.DAYS : ChronoUnit.MONTHS);
+            if (!to.atStartOfDay().isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                logger.info("Dropped expired execution partition {} [{}, {})", partition, from, to);
+            }
+        }
+    }
+
+    private void deleteExpiredRows(LocalDateTime cutoff) {
+        int total = 0;
+        int deleted;
+        do {
+            // short batches keep each transaction and its row locks small
+            deleted = jdbcTemplate.update(DELETE_BATCH_SQL, cutoff, deleteBatchSize);
+            total += deleted;
+        } while (deleted >= deleteBatchSize);
+        logger.info("Deleted {} execution(s) started before {}", total, cutoff);
+    }
+
+    private List<Partition> attachedPartitions() {
+        return jdbcTemplate.query(LIST_PARTITIONS_SQL, (rs, rowNum) -> Partition.of(rs.getString(1), rs.getString(2)));
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class));
+    }
+
+    private ChronoUnit granularity() {
+        return "DAILY".equalsIgnoreCase(partitionGranularity) ? ChronoUnit.DAYS : ChronoUnit.MONTHS;
+    }
+
+    private static LocalDate periodStart(LocalDate date, ChronoUnit unit) {
+        return unit == ChronoUnit.DAYS ? date : date.withDayOfMonth(1);
+    }
+
+    private static String partitionName(LocalDate from, ChronoUnit unit) {
+        return TABLE + "_p" + from.format(unit == ChronoUnit.DAYS ? DAILY_SUFFIX : MONTHLY_SUFFIX);
+    }
+
+    /**
+     * an attached partition and its range; from and to are null for the default partition
+     * or a bound that isn't a plain timestamp range.
+     */
+    private record Partition(String name, LocalDateTime from, LocalDateTime to) {
+
+        static Partition of(String name, String bound) {
+            Matcher matcher = bound != null ? PARTITION_BOUND.matcher(bound) : null;
+            if (matcher == null || !matcher.matches()) {
+                return new Partition(name, null, null);
+            }
+            try {
+                LocalDateTime from = matcher.group(1) != null ? parse(matcher.group(1)) : LocalDateTime.MIN;
+                LocalDateTime to = matcher.group(2) != null ? parse(matcher.group(2)) : LocalDateTime.MAX;
+                return new Partition(name, from, to);
+            } catch (DateTimeParseException e) {
+                return new Partition(name, null, null);
+            }
+        }
+
+        private static LocalDateTime parse(String value) {
+            return LocalDateTime.parse(value.trim().replace(' ', 'T'));
+        }
+
+        boolean overlaps(LocalDate start, LocalDate end) {
+            return from != null && from.isBefore(end.atStartOfDay()) && start.atStartOfDay().isBefore(to);
+        }
+    }
+
+    private static void runStep(String step, Runnable action) {
+        try {
+            action.run();
+        } catch (DataAccessException e) {
+            logger.error("Execution history maintenance step {} failed: {}", step, e.getMessage(), e);
+        }
+    }
+}
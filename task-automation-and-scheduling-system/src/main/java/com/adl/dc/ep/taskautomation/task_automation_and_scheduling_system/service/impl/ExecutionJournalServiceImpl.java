@@ -0,0 +1,347 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionJournalService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers execution records and task lastExecutedAt updates and writes them in
+ * JDBC batches, either every {@code flush-interval-ms} or as soon as
+ * {@code batch-size} records are pending.
+ *
+ * Each record call queues an immutable snapshot of the execution, so the job thread
+ * keeps sole ownership of its entity. A firing whose start and end fall in the same
+ * flush window is written as a single insert carrying its final state; longer ones
+ * are inserted as RUNNING and updated later. Several successes of one task collapse
+ * into one lastExecutedAt update.
+ *
+ * Durability: records are held in memory until flushed, so a crash or kill -9 loses
+ * at most the last flush window. A graceful shutdown flushes everything. A batch that
+ * fails because the database can't be reached is put back and retried with the next
+ * flush until {@code max-pending} records are waiting, after which callers flush
+ * inline and records from a failing batch are dropped and logged. A batch that fails
+ * for any other reason is written again one record at a time, and only the records
+ * the database rejects are dropped.
+ *
+ * The scheduler is shut down before the journal (see QuartzConfig); anything a job
+ * records after stop() is written through by the calling thread.
+ */
+@Service
+public class ExecutionJournalServiceImpl implements ExecutionJournalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionJournalServiceImpl.class);
+
+    private static final int TEXT_COLUMN_LENGTH = 5000;
+
+    private static final String UPDATE_EXECUTION_SQL =
+            "UPDATE task_executions SET end_time = ?, status = ?, error_message = ?, result = ? WHERE id = ?";
+
+    private static final String UPDATE_LAST_EXECUTED_SQL =
+            "UPDATE tasks SET last_executed_at = ? WHERE id = ? AND (last_executed_at IS NULL OR last_executed_at < ?)";
+
+    private final TaskExecutionRepository executionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Queue<ExecutionRecord> pendingExecutions = new ConcurrentLinkedQueue<>();
+    // links a finish to the row its start inserted; by identity, the entity is never read from here
+    private final Map<TaskExecution, RowId> openRows = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Map<Long, LocalDateTime> pendingLastExecuted = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean stopped;
+
+    @Value("${execution-journal.batch-size:50}")
+    private int batchSize;
+
+    @Value("${execution-journal.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${execution-journal.max-pending:10000}")
+    private int maxPending;
+
+    public ExecutionJournalServiceImpl(TaskExecutionRepository executionRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager) {
+        this.executionRepository = executionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Execution journal started | batchSize={} | flushIntervalMs={} | maxPending={}",
+                batchSize, flushIntervalMs, maxPending);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+    }
+
+    @Override
+    public void recordStarted(TaskExecution execution) {
+        RowId row = new RowId();
+        openRows.put(execution, row);
+        enqueue(ExecutionRecord.of(row, execution));
+    }
+
+    @Override
+    public void recordFinished(TaskExecution execution) {
+        RowId row = openRows.remove(execution);
+        enqueue(ExecutionRecord.of(row != null ? row : new RowId(), execution));
+    }
+
+    @Override
+    public void recordTaskExecuted(Long taskId, LocalDateTime executedAt) {
+        pendingLastExecuted.merge(taskId, executedAt, (a, b) -> a.isAfter(b) ? a : b);
+        if (stopped) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            List<ExecutionRecord> records = drainExecutions();
+            Map<Long, LocalDateTime> lastExecuted = drainLastExecuted();
+            if (records.isEmpty() && lastExecuted.isEmpty()) {
+                return;
+            }
+
+            try {
+                writeInTransaction(records, lastExecuted);
+                logger.debug("Execution journal flushed | records={} | lastExecutedAt={}",
+                        records.size(), lastExecuted.size());
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    requeue(records, lastExecuted, e);
+                } else {
+                    writeOneByOne(records, lastExecuted, e);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writeInTransaction(List<ExecutionRecord> records, Map<Long, LocalDateTime> lastExecuted) {
+        List<ExecutionRecord> inserts = records.stream().filter(r -> r.row().id == null).toList();
+        List<ExecutionRecord> updates = records.stream().filter(r -> r.row().id != null).toList();
+        List<Long> ids = transactionTemplate.execute(status -> write(inserts, updates, lastExecuted));
+
+        // handed out only once committed: a rolled back insert never existed
+        for (int i = 0; i < inserts.size(); i++) {
+            inserts.get(i).row().id = ids.get(i);
+        }
+    }
+
+    private List<Long> write(List<ExecutionRecord> inserts, List<ExecutionRecord> updates,
+                             Map<Long, LocalDateTime> lastExecuted) {
+        List<Long> ids = new ArrayList<>(inserts.size());
+        if (!inserts.isEmpty()) {
+            for (TaskExecution saved : executionRepository.saveAll(inserts.stream().map(ExecutionRecord::toEntity).toList())) {
+                ids.add(saved.getId());
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_EXECUTION_SQL, updates, batchSize, (ps, record) -> {
+                ps.setObject(1, record.endTime());
+                ps.setString(2, record.status().name());
+                ps.setString(3, record.errorMessage());
+                ps.setString(4, record.result());
+                ps.setLong(5, record.row().id);
+            });
+        }
+        if (!lastExecuted.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_EXECUTED_SQL, new ArrayList<>(lastExecuted.entrySet()), batchSize,
+                    (ps, entry) -> {
+                        ps.setObject(1, entry.getValue());
+                        ps.setLong(2, entry.getKey());
+                        ps.setObject(3, entry.getValue());
+                    });
+        }
+        return ids;
+    }
+
+    /**
+     * A batch is all or nothing, so one row the database rejects would otherwise hold
+     * back every record queued with it until the whole lot is dropped.
+     */
+    private void writeOneByOne(List<ExecutionRecord> records, Map<Long, LocalDateTime> lastExecuted,
+                               RuntimeException batchFailure) {
+        logger.warn("Execution journal batch of {} record(s) failed, writing them one at a time: {}",
+                records.size(), batchFailure.getMessage());
+        List<ExecutionRecord> retry = new ArrayList<>();
+        RuntimeException unavailable = null;
+        for (ExecutionRecord record : records) {
+            try {
+                writeInTransaction(List.of(record), Map.of());
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    retry.add(record);
+                    unavailable = e;
+                } else {
+                    logger.error("Dropping execution record of task id={} rejected by the database: {}",
+                            record.taskId(), e.getMessage(), e);
+                }
+            }
+        }
+
+        Map<Long, LocalDateTime> retryLastExecuted = Map.of();
+        if (!lastExecuted.isEmpty()) {
+            try {
+                writeInTransaction(List.of(), lastExecuted);
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    retryLastExecuted = lastExecuted;
+                    unavailable = e;
+                } else {
+                    logger.error("Dropping {} lastExecutedAt update(s) rejected by the database: {}",
+                            lastExecuted.size(), e.getMessage(), e);
+                }
+            }
+        }
+
+        if (unavailable != null) {
+            requeue(retry, retryLastExecuted, unavailable);
+        }
+    }
+
+    private void enqueue(ExecutionRecord record) {
+        pendingExecutions.add(record);
+        int pending = pendingCount.incrementAndGet();
+        if (stopped || pending >= maxPending) {
+            // the writer is gone or falling behind: make the caller pay for the flush
+            flush();
+        } else if (pending >= batchSize && flushRequested.compareAndSet(false, true) && flusher != null) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // stopped since the check above
+                flush();
+            }
+        }
+    }
+
+    private List<ExecutionRecord> drainExecutions() {
+        // the same execution is queued at start and at finish; write it once with its latest state
+        Map<RowId, ExecutionRecord> latest = new LinkedHashMap<>();
+        ExecutionRecord record;
+        while ((record = pendingExecutions.poll()) != null) {
+            pendingCount.decrementAndGet();
+            latest.merge(record.row(), record, (a, b) -> a.revision() >= b.revision() ? a : b);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private Map<Long, LocalDateTime> drainLastExecuted() {
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Long taskId : pendingLastExecuted.keySet()) {
+            LocalDateTime executedAt = pendingLastExecuted.remove(taskId);
+            if (executedAt != null) {
+                drained.put(taskId, executedAt);
+            }
+        }
+        return drained;
+    }
+
+    private void requeue(List<ExecutionRecord> records, Map<Long, LocalDateTime> lastExecuted, RuntimeException e) {
+        if (pendingCount.get() + records.size() > maxPending) {
+            logger.error("Dropping {} execution record(s) after failed flush: {}", records.size(), e.getMessage(), e);
+            return;
+        }
+        logger.warn("Execution journal flush failed, retrying {} record(s) with the next flush: {}",
+                records.size(), e.getMessage());
+        records.forEach(record -> {
+            pendingExecutions.add(record);
+            pendingCount.incrementAndGet();
+        });
+        lastExecuted.forEach(this::recordTaskExecuted);
+    }
+
+    private static boolean isUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > TEXT_COLUMN_LENGTH ? value.substring(0, TEXT_COLUMN_LENGTH) : value;
+    }
+
+    /**
+     * Database id of one execution row, shared by all snapshots of that execution and
+     * set only by the flushing thread once the insert has committed.
+     */
+    private static final class RowId {
+        private volatile Long id;
+        private final AtomicInteger revisions = new AtomicInteger();
+    }
+
+    private record ExecutionRecord(RowId row, int revision, Long taskId, Integer attempt,
+                                   LocalDateTime startTime, LocalDateTime endTime, ExecutionStatus status,
+                                   String errorMessage, String result) {
+
+        static ExecutionRecord of(RowId row, TaskExecution execution) {
+            return new ExecutionRecord(row, row.revisions.incrementAndGet(), execution.getTaskId(),
+                    execution.getAttempt(), execution.getStartTime(), execution.getEndTime(), execution.getStatus(),
+                    truncate(execution.getErrorMessage()), truncate(execution.getResult()));
+        }
+
+        TaskExecution toEntity() {
+            TaskExecution execution = new TaskExecution(null, taskId, startTime, endTime, status, errorMessage, result);
+            execution.setAttempt(attempt);
+            return execution;
+        }
+    }
+}
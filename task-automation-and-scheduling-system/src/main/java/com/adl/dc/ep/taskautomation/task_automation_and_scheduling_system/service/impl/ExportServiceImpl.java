@@ -0,0 +1,182 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExportLimitExceededException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExportService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * NDJSON exports read through a forward-only JDBC cursor.
+ *
+ * Rows are fetched {@code fetch-size} at a time (Postgres only honours the fetch size
+ * inside a transaction, hence the read-only transaction around each export) and written
+ * to the response as they arrive, so memory use doesn't grow with the number of rows.
+ *
+ * Each export keeps a pooled connection until the client has read it all, which can take
+ * as long as {@code spring.mvc.async.request-timeout}. At most {@code export.max-concurrent}
+ * run at once; further requests are turned away with 429 instead of queueing for connections.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private static final String TASKS_SQL =
+            "SELECT id, name, description, cron_expression, task_type, status, created_at, last_executed_at, "
+                    + "max_attempts, retry_backoff_ms "
+                    + "FROM tasks WHERE user_id = ? ORDER BY id";
+
+    private static final String EXECUTIONS_SQL =
+            "SELECT e.id, e.task_id, e.start_time, e.end_time, e.status, e.error_message, e.result, e.attempt "
+                    + "FROM task_executions e JOIN tasks t ON t.id = e.task_id WHERE t.user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter ndjsonWriter;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore slots;
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             JsonMapper jsonMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // one value per line; flushed every fetch-size rows rather than after every row
+        this.ndjsonWriter = jsonMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @PostConstruct
+    public void init() {
+        slots = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public Slot acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new ExportLimitExceededException("Too many exports running, try again later");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    @Override
+    public long exportTasks(Long userId, OutputStream out) {
+        long rows = stream(TASKS_SQL, List.of(userId), ExportServiceImpl::mapTask, out);
+        logger.info("Tasks exported | userId={} | rows={}", userId, rows);
+        return rows;
+    }
+
+    @Override
+    public long exportExecutions(Long userId, Long taskId, LocalDateTime from, LocalDateTime to, OutputStream out) {
+        StringBuilder sql = new StringBuilder(EXECUTIONS_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        if (taskId != null) {
+            sql.append(" AND e.task_id = ?");
+            args.add(taskId);
+        }
+        if (from != null) {
+            sql.append(" AND e.start_time >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND e.start_time < ?");
+            args.add(to);
+        }
+        long rows = stream(sql.toString(), args, ExportServiceImpl::mapExecution, out);
+        logger.info("Executions exported | userId={} | taskId={} | rows={}", userId, taskId, rows);
+        return rows;
+    }
+
+    private <T> long stream(String sql, List<Object> args, RowMapper<T> mapper, OutputStream out) {
+        Long rows = transactionTemplate.execute(status -> {
+            SequenceWriter writer = ndjsonWriter.writeValues(out);
+            long[] count = {0};
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                writer.write(mapper.mapRow(rs, (int) count[0]));
+                if (++count[0] % fetchSize == 0) {
+                    writer.flush();
+                }
+            });
+            // leave the response stream open, the caller owns it
+            writer.flush();
+            return count[0];
+        });
+        return rows != null ? rows : 0L;
+    }
+
+    private static TaskResponse mapTask(ResultSet rs, int rowNum) throws SQLException {
+        TaskResponse task = new TaskResponse();
+        task.setId(rs.getLong("id"));
+        task.setName(rs.getString("name"));
+        task.setDescription(rs.getString("description"));
+        task.setCronExpression(rs.getString("cron_expression"));
+        task.setTaskType(TaskType.valueOf(rs.getString("task_type")));
+        task.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        task.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        task.setLastExecutedAt(rs.getObject("last_executed_at", LocalDateTime.class));
+        task.setMaxAttempts(rs.getObject("max_attempts", Integer.class));
+        task.setRetryBackoffMs(rs.getObject("retry_backoff_ms", Long.class));
+        return task;
+    }
+
+    private static TaskExecutionResponse mapExecution(ResultSet rs, int rowNum) throws SQLException {
+        TaskExecutionResponse execution = new TaskExecutionResponse();
+        execution.setId(rs.getLong("id"));
+        execution.setTaskId(rs.getLong("task_id"));
+        execution.setStartTime(rs.getObject("start_time", LocalDateTime.class));
+        execution.setEndTime(rs.getObject("end_time", LocalDateTime.class));
+        execution.setStatus(ExecutionStatus.valueOf(rs.getString("status")));
+        execution.setErrorMessage(rs.getString("error_message"));
+        execution.setResult(rs.getString("result"));
+        execution.setAttempt(rs.getObject("attempt", Integer.class));
+        return execution;
+    }
+}
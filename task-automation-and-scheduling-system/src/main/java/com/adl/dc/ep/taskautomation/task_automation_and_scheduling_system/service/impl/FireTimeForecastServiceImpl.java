@@ -0,0 +1,264 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CapacityForecast;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ForecastBucket;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ForecastResolution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.FireTimeForecastService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index of the trigger cron of every active task, kept up to date by TaskServiceImpl as
+ * tasks are created, updated and deleted. Like the task cache, a change is applied once
+ * its transaction commits and dropped if it rolls back.
+ *
+ * Tasks sharing a cron are counted once per cron, so a forecast walks the firings of the
+ * distinct schedules only. Changes made on other nodes are picked up by rebuilding from
+ * the database every {@code rebuild-interval-minutes}, on the first forecast after that.
+ * Changes committed while a rebuild is reading are replayed over what it read.
+ */
+@Service
+public class FireTimeForecastServiceImpl implements FireTimeForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FireTimeForecastServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final Scheduler scheduler;
+    private final CronSmearing cronSmearing;
+    private final MeterRegistry meterRegistry;
+
+    // guarded by this
+    private final Map<Long, String> taskCrons = new HashMap<>();
+    private final Map<String, Integer> cronTasks = new HashMap<>();
+    // taskId -> trigger cron, null once removed; only while a rebuild reads the database
+    private Map<Long, String> changedDuringRebuild;
+    private long rebuiltAtMillis;
+
+    @Value("${capacity-forecast.max-hours:48}")
+    private int maxHours;
+
+    @Value("${capacity-forecast.rebuild-interval-minutes:10}")
+    private long rebuildIntervalMinutes;
+
+    public FireTimeForecastServiceImpl(TaskRepository taskRepository, Scheduler scheduler,
+                                       CronSmearing cronSmearing, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.scheduler = scheduler;
+        this.cronSmearing = cronSmearing;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("task.forecast.tasks", this, FireTimeForecastServiceImpl::indexedTasks)
+                .description("Active tasks in the fire-time forecast index")
+                .register(meterRegistry);
+        Gauge.builder("task.forecast.schedules", this, FireTimeForecastServiceImpl::indexedSchedules)
+                .description("Distinct trigger crons in the fire-time forecast index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void put(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        Long taskId = task.getId();
+        // read now, the entity can still change before the transaction commits
+        String cron = triggerCron(task);
+        afterCommit(() -> apply(taskId, cron));
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        afterCommit(() -> apply(taskId, null));
+    }
+
+    private void afterCommit(Runnable onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+        });
+    }
+
+    private synchronized void apply(Long taskId, String cron) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(taskId, cron);
+        }
+        index(taskId, cron);
+    }
+
+    // guarded by this
+    private void index(Long taskId, String cron) {
+        String previous = cron != null ? taskCrons.put(taskId, cron) : taskCrons.remove(taskId);
+        if (Objects.equals(cron, previous)) {
+            return;
+        }
+        if (previous != null) {
+            cronTasks.computeIfPresent(previous, (key, tasks) -> tasks > 1 ? tasks - 1 : null);
+        }
+        if (cron != null) {
+            cronTasks.merge(cron, 1, Integer::sum);
+        }
+    }
+
+    // null for a task that doesn't fire
+    private String triggerCron(Task task) {
+        if (task.getStatus() != TaskStatus.ACTIVE || task.getCronExpression() == null) {
+            return null;
+        }
+        return cronSmearing.triggerCron(task.getId(), task.getCronExpression());
+    }
+
+    @Override
+    public CapacityForecast getForecast(int hours, ForecastResolution resolution) {
+        rebuildIfStale();
+        int period = Math.clamp(hours, 1, Math.max(1, maxHours)) * 3600;
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Date start = Date.from(from.atZone(ZoneId.systemDefault()).toInstant());
+
+        int tasks;
+        Map<String, Integer> schedules;
+        synchronized (this) {
+            tasks = taskCrons.size();
+            schedules = new HashMap<>(cronTasks);
+        }
+
+        int[] perSecond = new int[period];
+        long executions = 0;
+        for (Map.Entry<String, Integer> schedule : schedules.entrySet()) {
+            executions += CronFirings.count(schedule.getKey(), schedule.getValue(), start, perSecond);
+        }
+
+        int[] perMinute = new int[period / 60];
+        int peakPerSecond = 0;
+        for (int second = 0; second < period; second++) {
+            perMinute[second / 60] += perSecond[second];
+            peakPerSecond = Math.max(peakPerSecond, perSecond[second]);
+        }
+        int peakPerMinute = 0;
+        int peakMinute = 0;
+        for (int minute = 0; minute < perMinute.length; minute++) {
+            if (perMinute[minute] > peakPerMinute) {
+                peakPerMinute = perMinute[minute];
+                peakMinute = minute;
+            }
+        }
+
+        Double averageExecutionMs = averageExecutionMs();
+        int concurrency = peakConcurrency(perSecond, averageExecutionMs);
+
+        int[] counts = resolution == ForecastResolution.MINUTE ? perMinute : perSecond;
+        int step = resolution == ForecastResolution.MINUTE ? 60 : 1;
+        List<ForecastBucket> buckets = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.add(new ForecastBucket(from.plusSeconds((long) i * step), counts[i]));
+            }
+        }
+        return new CapacityForecast(from, from.plusSeconds(period), resolution, tasks, schedules.size(),
+                executions, peakPerSecond, peakPerMinute, from.plusMinutes(peakMinute), averageExecutionMs,
+                concurrency, threadPoolSize(), buckets);
+    }
+
+    private void rebuildIfStale() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            // another forecast is already rebuilding, this one uses the index as it is
+            if (changedDuringRebuild != null
+                    || rebuiltAtMillis != 0 && now - rebuiltAtMillis < TimeUnit.MINUTES.toMillis(rebuildIntervalMinutes)) {
+                return;
+            }
+            changedDuringRebuild = new HashMap<>();
+        }
+        List<Task> tasks;
+        try {
+            tasks = taskRepository.findByStatus(TaskStatus.ACTIVE);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            Map<Long, String> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            taskCrons.clear();
+            cronTasks.clear();
+            tasks.forEach(task -> index(task.getId(), triggerCron(task)));
+            // committed after the query started, so at least as new as what it read
+            changed.forEach(this::index);
+            rebuiltAtMillis = now;
+            logger.info("Fire-time forecast index rebuilt | tasks={} | schedules={} | replayed={}",
+                    taskCrons.size(), cronTasks.size(), changed.size());
+        }
+    }
+
+    // most firings within any window as long as an average execution, i.e. the runs that overlap
+    private static int peakConcurrency(int[] perSecond, Double averageExecutionMs) {
+        int window = averageExecutionMs == null ? 1 : (int) Math.max(1, Math.ceil(averageExecutionMs / 1000));
+        int running = 0;
+        int peak = 0;
+        for (int second = 0; second < perSecond.length; second++) {
+            running += perSecond[second];
+            if (second >= window) {
+                running -= perSecond[second - window];
+            }
+            peak = Math.max(peak, running);
+        }
+        return peak;
+    }
+
+    private Double averageExecutionMs() {
+        double totalMs = 0;
+        long count = 0;
+        for (Timer timer : meterRegistry.find("task.execution").timers()) {
+            totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+            count += timer.count();
+        }
+        return count > 0 ? totalMs / count : null;
+    }
+
+    private int threadPoolSize() {
+        try {
+            return scheduler.getMetaData().getThreadPoolSize();
+        } catch (SchedulerException e) {
+            logger.warn("Failed to read the scheduler thread pool size", e);
+            return 0;
+        }
+    }
+
+    private synchronized int indexedTasks() {
+        return taskCrons.size();
+    }
+
+    private synchronized int indexedSchedules() {
+        return cronTasks.size();
+    }
+}
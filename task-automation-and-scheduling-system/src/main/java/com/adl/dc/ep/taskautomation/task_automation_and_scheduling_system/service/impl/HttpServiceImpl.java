@@ -0,0 +1,213 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CircuitBreakerService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Outbound GETs, each guarded by the circuit breaker of its host. Connection errors,
+ * timeouts and 5xx responses count against the host; 4xx responses and oversized
+ * bodies are the request's fault and count as the host answering.
+ *
+ * Messages and logs name the url without its query string, which may carry an API key,
+ * since error messages end up in execution records task owners can read.
+ */
+@Service
+public class HttpServiceImpl implements HttpService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpServiceImpl.class);
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final CircuitBreakerService circuitBreaker;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${http.client.max-response-bytes:1048576}")
+    private int maxResponseBytes;
+
+    public HttpServiceImpl(HttpClient httpClient, JsonMapper jsonMapper, CircuitBreakerService circuitBreaker) {
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getForString(String url) {
+        try {
+            return getForStringAsync(url).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ExternalServiceException externalServiceException) {
+                throw externalServiceException;
+            }
+            throw new ExternalServiceException("GET " + redact(URI.create(url)) + " failed: " + cause.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> getForStringAsync(String url) {
+        URI uri = URI.create(url);
+        String target = redact(uri);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .GET()
+                .build();
+        String host = HttpService.hostOf(uri);
+        try {
+            circuitBreaker.acquire(host);
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<HttpResponse<String>> exchange;
+        try {
+            exchange = httpClient.sendAsync(request, responseInfo ->
+                    new LimitedBodySubscriber(maxResponseBytes, charsetOf(responseInfo.headers())));
+        } catch (RuntimeException e) {
+            // acquire may have handed out a half-open probe, which only a recorded outcome gives back
+            circuitBreaker.onFailure(host);
+            return CompletableFuture.failedFuture(
+                    new ExternalServiceException("GET " + target + " failed: " + e.getMessage()));
+        }
+
+        return exchange
+                .whenComplete((response, error) -> record(host, error != null
+                        ? !(unwrap(error) instanceof ExternalServiceException)
+                        : response.statusCode() >= 500))
+                .thenApply(response -> {
+                    logger.debug("GET {} -> {} ({})", target, response.statusCode(), response.version());
+                    if (response.statusCode() >= 400) {
+                        throw new ExternalServiceException("GET " + target + " returned HTTP " + response.statusCode());
+                    }
+                    return response.body();
+                });
+    }
+
+    // same bounded exchange as getForString, so the body is capped at max-response-bytes before mapping
+    @Override
+    public <T> T getForObject(String url, Class<T> responseType) {
+        String body = getForString(url);
+        try {
+            return jsonMapper.readValue(body, responseType);
+        } catch (JacksonException e) {
+            throw new ExternalServiceException("GET " + redact(URI.create(url)) + " returned an unreadable body: "
+                    + e.getOriginalMessage());
+        }
+    }
+
+    // scheme, host and path only; the query string and any user info are left out
+    static String redact(URI uri) {
+        String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+        return uri.getScheme() + "://" + HttpService.hostOf(uri) + path;
+    }
+
+    private void record(String host, boolean failed) {
+        if (failed) {
+            circuitBreaker.onFailure(host);
+        } else {
+            circuitBreaker.onSuccess(host);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        return headers.firstValue("Content-Type")
+                .map(contentType -> {
+                    int idx = contentType.toLowerCase().indexOf("charset=");
+                    if (idx < 0) {
+                        return StandardCharsets.UTF_8;
+                    }
+                    try {
+                        return Charset.forName(contentType.substring(idx + "charset=".length()).replace("\"", "").trim());
+                    } catch (IllegalArgumentException e) {
+                        return StandardCharsets.UTF_8;
+                    }
+                })
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Collects the body as text and aborts the exchange once it grows past the limit,
+     * so a misbehaving endpoint can't fill the heap.
+     */
+    private static final class LimitedBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final int maxBytes;
+        private final Charset charset;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        private LimitedBodySubscriber(int maxBytes, Charset charset) {
+            this.maxBytes = maxBytes;
+            this.charset = charset;
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                if (buffer.size() + item.remaining() > maxBytes) {
+                    subscription.cancel();
+                    body.completeExceptionally(
+                            new ExternalServiceException("Response body exceeded " + maxBytes + " bytes"));
+                    return;
+                }
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                buffer.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(buffer.toString(charset));
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.MailDispatchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers mail from a bounded queue over a small pool of long-lived SMTP sessions.
+ *
+ * Each worker thread owns one connected (and, if configured, authenticated and
+ * STARTTLS-upgraded) transport and sends whatever has queued up as a batch over it,
+ * so a burst of notifications pays the connect/handshake cost once per worker
+ * instead of once per message. Idle sessions are closed after {@code idle-timeout-ms}
+ * and reopened on demand.
+ *
+ * When the queue is full a caller waits up to {@code enqueue-timeout-ms} and then
+ * sends the message itself, which slows producers down to the speed of the mail server
+ * rather than dropping mail or growing the queue without bound.
+ *
+ * A message that fails for any reason, including an unexpected runtime exception while
+ * building it, is counted as failed and skipped; workers never die on one bad message.
+ */
+@Service
+public class MailDispatchServiceImpl implements MailDispatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatchServiceImpl.class);
+
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter sentInline;
+    private final Timer sendTimer;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private BlockingQueue<SimpleMailMessage> queue;
+    private volatile boolean running;
+
+    @Value("${mail-dispatch.connections:4}")
+    private int connections;
+
+    @Value("${mail-dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail-dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${mail-dispatch.enqueue-timeout-ms:100}")
+    private long enqueueTimeoutMs;
+
+    @Value("${mail-dispatch.idle-timeout-ms:30000}")
+    private long idleTimeoutMs;
+
+    @Value("${mail-dispatch.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    public MailDispatchServiceImpl(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.sent = dispatched(meterRegistry, "sent");
+        this.failed = dispatched(meterRegistry, "failed");
+        this.sentInline = dispatched(meterRegistry, "sent_inline");
+        this.sendTimer = Timer.builder("notification.send")
+                .description("Time to deliver a notification to the SMTP server")
+                .register(meterRegistry);
+    }
+
+    private static Counter dispatched(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mail.dispatch.messages")
+                .description("Mail handed to the SMTP server by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("mail.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("Mail waiting for an SMTP session")
+                .register(meterRegistry);
+        running = true;
+        for (int i = 0; i < connections; i++) {
+            Thread worker = new Thread(new Worker(), "mail-dispatch-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        logger.info("Mail dispatch started | connections={} | batchSize={} | queueCapacity={}",
+                connections, batchSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Mail dispatch stopped with {} message(s) still queued", queue.size());
+        }
+    }
+
+    @Override
+    public void dispatch(SimpleMailMessage message) {
+        if (running) {
+            try {
+                if (queue.offer(message, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logger.debug("Mail dispatch queue full, sending on the caller's thread");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(message);
+            sentInline.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("Failed to send email to {}: {}", recipients(message), e.getMessage());
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    private static String recipients(SimpleMailMessage message) {
+        return message.getTo() == null ? "-" : String.join(",", message.getTo());
+    }
+
+    /**
+     * Owns one SMTP session; only ever touched by its own thread.
+     */
+    private final class Worker implements Runnable {
+
+        private Transport transport;
+        private long lastUsedNanos;
+
+        @Override
+        public void run() {
+            List<SimpleMailMessage> batch = new ArrayList<>(batchSize);
+            try {
+                while (running || !queue.isEmpty()) {
+                    SimpleMailMessage first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        closeIfIdle();
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    try {
+                        send(batch);
+                    } catch (RuntimeException e) {
+                        // send() accounts for every message itself; this only keeps the thread alive
+                        logger.error("Mail dispatch worker hit an unexpected error, continuing", e);
+                        close();
+                    } finally {
+                        batch.clear();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void send(List<SimpleMailMessage> batch) {
+            if (!(mailSender instanceof JavaMailSenderImpl senderImpl)) {
+                // no session to hold on to: let the sender batch over a single connection
+                sendWithoutSession(batch);
+                return;
+            }
+            for (SimpleMailMessage message : batch) {
+                try {
+                    MimeMessage mime = senderImpl.createMimeMessage();
+                    message.copyTo(new MimeMailMessage(mime));
+                    mime.saveChanges();
+                    sendOverSession(senderImpl, mime);
+                    sent.increment();
+                } catch (MessagingException | MailException e) {
+                    failed.increment();
+                    logger.warn("Failed to send email to {}: {}", recipients(message), e.getMessage());
+                } catch (RuntimeException e) {
+                    // a malformed message, not the session: skip it and keep going
+                    failed.increment();
+                    logger.error("Failed to send email to {}", recipients(message), e);
+                }
+            }
+            lastUsedNanos = System.nanoTime();
+        }
+
+        private void sendOverSession(JavaMailSenderImpl senderImpl, MimeMessage mime) throws MessagingException {
+            long startedAt = System.nanoTime();
+            try {
+                connected(senderImpl).sendMessage(mime, mime.getAllRecipients());
+            } catch (MessagingException e) {
+                if (transport != null && transport.isConnected()) {
+                    throw e; // rejected message, the session is fine
+                }
+                // the server dropped the session (idle timeout, restart): reconnect once
+                close();
+                connected(senderImpl).sendMessage(mime, mime.getAllRecipients());
+            } finally {
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Transport connected(JavaMailSenderImpl senderImpl) throws MessagingException {
+            if (transport == null) {
+                Transport opened = senderImpl.getSession().getTransport(senderImpl.getProtocol());
+                opened.connect(senderImpl.getHost(), senderImpl.getPort(),
+                        senderImpl.getUsername(), senderImpl.getPassword());
+                transport = opened;
+                logger.debug("Opened SMTP session to {}:{}", senderImpl.getHost(), senderImpl.getPort());
+            }
+            return transport;
+        }
+
+        private void sendWithoutSession(List<SimpleMailMessage> batch) {
+            long startedAt = System.nanoTime();
+            try {
+                mailSender.send(batch.toArray(SimpleMailMessage[]::new));
+                sent.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                logger.warn("Failed to send {} email(s): {}", batch.size(), e.getMessage());
+            } finally {
+                // one send for the whole batch: spread it so the timer stays per message
+                long perMessage = (System.nanoTime() - startedAt) / batch.size();
+                for (int i = 0; i < batch.size(); i++) {
+                    sendTimer.record(perMessage, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        private void closeIfIdle() {
+            if (transport != null && System.nanoTime() - lastUsedNanos > TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs)) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                logger.debug("Error closing SMTP session: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Task definitions and owner email addresses for the job hot path.
+ *
+ * TaskServiceImpl writes through on create/update and evicts on delete, after the
+ * transaction commits, so a firing only reads the database after a restart or once
+ * an entry expires. Entries expire after {@code ttl-seconds} so changes made on
+ * another node are picked up; the job also reloads a task whose type, payload or
+ * owner no longer match its JobDataMap. Callers get copies and can't change the
+ * cached entries.
+ */
+@Service
+public class TaskCacheServiceImpl implements TaskCacheService {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Map<Long, Cached<Task>> tasks = new ConcurrentHashMap<>();
+    private final Map<Long, Cached<String>> userEmails = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${task-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${task-cache.max-entries:100000}")
+    private int maxEntries;
+
+    public TaskCacheServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
+                                MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("task.cache.size", tasks, Map::size)
+                .description("Task definitions currently cached")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("task.cache.requests")
+                .description("Task and user lookups from the job by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Task> getTask(Long taskId) {
+        return lookup(tasks, taskId, id -> taskRepository.findById(id).map(TaskCacheServiceImpl::copy))
+                .map(TaskCacheServiceImpl::copy);
+    }
+
+    @Override
+    public Optional<String> getUserEmail(Long userId) {
+        return lookup(userEmails, userId, id -> userRepository.findById(id).map(User::getEmail));
+    }
+
+    @Override
+    public void put(Task task) {
+        Task copy = copy(task);
+        tasks.remove(task.getId());
+        afterCommit(copy.getId(), () -> tasks.put(copy.getId(), new Cached<>(copy, expiresAt())));
+    }
+
+    @Override
+    public void evict(Long taskId) {
+        tasks.remove(taskId);
+        afterCommit(taskId, () -> tasks.remove(taskId));
+    }
+
+    private <T> Optional<T> lookup(Map<Long, Cached<T>> cache, Long id, Function<Long, Optional<T>> loader) {
+        Cached<T> cached = cache.get(id);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            hits.increment();
+            return Optional.of(cached.value());
+        }
+        misses.increment();
+        Optional<T> loaded = loader.apply(id);
+        loaded.ifPresent(value -> {
+            evictIfFull(cache);
+            // a write-through that landed while we were reading is newer than what we read
+            Cached<T> fresh = new Cached<>(value, expiresAt());
+            if (cached == null) {
+                cache.putIfAbsent(id, fresh);
+            } else {
+                cache.replace(id, cached, fresh);
+            }
+        });
+        return loaded;
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    private <T> void evictIfFull(Map<Long, Cached<T>> cache) {
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.isExpired(now));
+
+        Iterator<Long> keys = cache.keySet().iterator();
+        while (cache.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private void afterCommit(Long taskId, Runnable onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    // rolled back: the database still has the old row
+                    tasks.remove(taskId);
+                }
+            }
+        });
+    }
+
+    private static Task copy(Task task) {
+        Task copy = new Task(task.getId(), task.getName(), task.getDescription(), task.getCronExpression(),
+                task.getTaskType(), task.getActionPayload(), task.getUserId(), task.getStatus(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getLastExecutedAt());
+        copy.setMaxAttempts(task.getMaxAttempts());
+        copy.setRetryBackoffMs(task.getRetryBackoffMs());
+        return copy;
+    }
+
+    private record Cached<T>(T value, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecutionRollup;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionRollupResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRollupRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionSummary;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskExecutionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read side of the execution history. List queries go through the TaskExecutionSummary
+ * projection unless details are asked for, so the large text columns are only read
+ * when someone actually looks at them. Rollups are the hourly summaries the history
+ * maintenance job keeps, which outlive the executions they were computed from.
+ */
+@Service
+public class TaskExecutionServiceImpl implements TaskExecutionService {
+
+    private final TaskExecutionRepository executionRepository;
+    private final TaskExecutionRollupRepository rollupRepository;
+    private final TaskCacheService taskCache;
+
+    @Value("${task-page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${execution-history.rollup-max-days:31}")
+    private int rollupMaxDays;
+
+    public TaskExecutionServiceImpl(TaskExecutionRepository executionRepository,
+                                    TaskExecutionRollupRepository rollupRepository,
+                                    TaskCacheService taskCache) {
+        this.executionRepository = executionRepository;
+        this.rollupRepository = rollupRepository;
+        this.taskCache = taskCache;
+    }
+
+    @Override
+    public TaskExecutionPageResponse getExecutions(Long taskId, Long cursor, int size, ExecutionStatus status,
+                                                   boolean details) {
+        checkOwnership(taskId);
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        long beforeId = cursor != null ? cursor : Long.MAX_VALUE;
+        // one extra row tells us whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<TaskExecutionResponse> rows = details
+                ? query(taskId, status, beforeId, limit, TaskExecution.class, TaskExecutionServiceImpl::mapDetails)
+                : query(taskId, status, beforeId, limit, TaskExecutionSummary.class, TaskExecutionServiceImpl::mapSummary);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TaskExecutionResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new TaskExecutionPageResponse(page, nextCursor, page.size());
+    }
+
+    @Override
+    public TaskExecutionResponse getExecution(Long taskId, Long executionId) {
+        checkOwnership(taskId);
+        return executionRepository.findByIdAndTaskId(executionId, taskId)
+                .map(TaskExecutionServiceImpl::mapDetails)
+                .orElseThrow(() -> new ResourceNotFoundException("Execution not found"));
+    }
+
+    @Override
+    public List<TaskExecutionRollupResponse> getRollups(Long taskId, LocalDateTime from, LocalDateTime to) {
+        checkOwnership(taskId);
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime earliest = end.minusDays(rollupMaxDays);
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        if (start.isBefore(earliest)) {
+            start = earliest;
+        }
+        return rollupRepository.findByTaskIdAndBucketStartBetweenOrderByBucketStart(taskId, start, end).stream()
+                .map(TaskExecutionServiceImpl::mapRollup)
+                .toList();
+    }
+
+    private <T> List<TaskExecutionResponse> query(Long taskId, ExecutionStatus status, long beforeId, Limit limit,
+                                                  Class<T> type, Function<T, TaskExecutionResponse> mapper) {
+        List<T> rows = status != null
+                ? executionRepository.findByTaskIdAndStatusAndIdLessThanOrderByIdDesc(taskId, status, beforeId,
+                        limit, type)
+                : executionRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, beforeId, limit, type);
+        return rows.stream().map(mapper).toList();
+    }
+
+    private void checkOwnership(Long taskId) {
+        User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Task task = taskCache.getTask(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        if (!task.getUserId().equals(currentUser.getId())) {
+            throw new RuntimeException("Access denied");
+        }
+    }
+
+    private static TaskExecutionResponse mapSummary(TaskExecutionSummary summary) {
+        TaskExecutionResponse response = new TaskExecutionResponse();
+        response.setId(summary.getId());
+        response.setTaskId(summary.getTaskId());
+        response.setStartTime(summary.getStartTime());
+        response.setEndTime(summary.getEndTime());
+        response.setStatus(summary.getStatus());
+        response.setAttempt(summary.getAttempt());
+        return response;
+    }
+
+    private static TaskExecutionResponse mapDetails(TaskExecution execution) {
+        TaskExecutionResponse response = new TaskExecutionResponse();
+        response.setId(execution.getId());
+        response.setTaskId(execution.getTaskId());
+        response.setStartTime(execution.getStartTime());
+        response.setEndTime(execution.getEndTime());
+        response.setStatus(execution.getStatus());
+        response.setErrorMessage(execution.getErrorMessage());
+        response.setResult(execution.getResult());
+        response.setAttempt(execution.getAttempt());
+        return response;
+    }
+
+    private static TaskExecutionRollupResponse mapRollup(TaskExecutionRollup rollup) {
+        TaskExecutionRollupResponse response = new TaskExecutionRollupResponse();
+        response.setBucketStart(rollup.getBucketStart());
+        response.setExecutionCount(rollup.getExecutionCount());
+        response.setSuccessCount(rollup.getSuccessCount());
+        response.setFailureCount(rollup.getFailureCount());
+        response.setP50DurationMs(rollup.getP50DurationMs());
+        response.setP95DurationMs(rollup.getP95DurationMs());
+        return response;
+    }
+}
@@ -1,21 +1,39 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.TaskExecutionJob;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskResult;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskUpdateItem;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.InvalidTaskPayloadException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.FireTimeForecastService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskService;
 import org.quartz.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,11 +42,23 @@ public class TaskServiceImpl implements TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
     private final TaskRepository taskRepository;
     private final Scheduler scheduler;
+    private final TaskCacheService taskCache;
+    private final CronSmearing cronSmearing;
+    private final FireTimeForecastService fireTimeForecast;
 
+    @Value("${task-page.max-size:500}")
+    private int maxPageSize;
 
-    public TaskServiceImpl(TaskRepository taskRepository, Scheduler scheduler) {
+    @Value("${task-bulk.max-items:1000}")
+    private int maxBulkItems;
+
+    public TaskServiceImpl(TaskRepository taskRepository, Scheduler scheduler, TaskCacheService taskCache,
+                           CronSmearing cronSmearing, FireTimeForecastService fireTimeForecast) {
         this.taskRepository = taskRepository;
         this.scheduler = scheduler;
+        this.taskCache = taskCache;
+        this.cronSmearing = cronSmearing;
+        this.fireTimeForecast = fireTimeForecast;
     }
 
 
@@ -42,11 +72,7 @@ public class TaskServiceImpl implements TaskService {
 
 
         Task task = new Task();
-        task.setName(request.getName());
-        task.setDescription(request.getDescription());
-        task.setCronExpression(request.getCronExpression());
-        task.setTaskType(request.getTaskType());
-        task.setActionPayload(request.getActionPayload());
+        applyRequest(task, request);
         task.setUserId(currentLoggedUser.getId());
         task.setStatus(TaskStatus.ACTIVE);
 
@@ -61,6 +87,8 @@ public class TaskServiceImpl implements TaskService {
         } catch (SchedulerException e) {
             throw new RuntimeException("Failed to schedule task: " + e.getMessage(), e);
         }
+        taskCache.put(savedTask);
+        fireTimeForecast.put(savedTask);
         long schedulerEnd = System.nanoTime();
         long endTime = System.nanoTime();
         logger.info(
@@ -72,6 +100,63 @@ public class TaskServiceImpl implements TaskService {
         return mapToResponse(savedTask);
     }
 
+    private void applyRequest(Task task, TaskRequest request) {
+        task.setName(request.getName());
+        task.setDescription(request.getDescription());
+        task.setCronExpression(request.getCronExpression());
+        task.setTaskType(request.getTaskType());
+        task.setActionPayload(request.getActionPayload());
+        task.setMaxAttempts(request.getMaxAttempts());
+        task.setRetryBackoffMs(request.getRetryBackoffMs());
+    }
+
+    // the bean validation rules of TaskRequest plus a parseable cron, checked per item so
+    // one bad item doesn't fail the whole batch
+    private String validate(TaskRequest request) {
+        if (request == null) {
+            return "Task is required";
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "Task name is required";
+        }
+        if (request.getCronExpression() == null || request.getCronExpression().isBlank()) {
+            return "Cron expression is required";
+        }
+        if (!CronExpression.isValidExpression(request.getCronExpression())) {
+            return "Invalid cron expression: " + request.getCronExpression();
+        }
+        if (request.getTaskType() == null) {
+            return "Task type is required";
+        }
+        if (request.getMaxAttempts() != null && (request.getMaxAttempts() < 1 || request.getMaxAttempts() > 10)) {
+            return "Max attempts must be between 1 and 10";
+        }
+        if (request.getRetryBackoffMs() != null && request.getRetryBackoffMs() < 1000) {
+            return "Retry backoff must be at least 1000 ms";
+        }
+        return null;
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidTaskPayloadException("At least one item is required");
+        }
+        if (items.size() > maxBulkItems) {
+            throw new InvalidTaskPayloadException(
+                    "Too many items: " + items.size() + " (max " + maxBulkItems + ")");
+        }
+    }
+
+    // one scheduleJobs call stores every job and trigger under a single job store lock/transaction
+    private void scheduleTasks(List<Task> tasks, boolean replace) throws SchedulerException {
+        Map<JobDetail, Set<? extends Trigger>> jobs = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            JobDetail jobDetail = buildJobDetail(task);
+            jobs.put(jobDetail, Set.of(buildJobTrigger(jobDetail, task)));
+        }
+        scheduler.scheduleJobs(jobs, replace);
+    }
+
     private void scheduleTask(Task task) throws SchedulerException {
         logger.debug("scheduleTask");
         JobDetail jobDetail = buildJobDetail(task);
@@ -97,8 +182,9 @@ public class TaskServiceImpl implements TaskService {
 
 
     private Trigger buildJobTrigger(JobDetail jobDetail, Task task) {
-        logger.debug("Building trigger for task id={} with cron='{}'",
-                task.getId(), task.getCronExpression());
+        String cron = cronSmearing.triggerCron(task.getId(), task.getCronExpression());
+        logger.debug("Building trigger for task id={} with cron='{}' (task cron '{}')",
+                task.getId(), cron, task.getCronExpression());
 
         return TriggerBuilder.newTrigger()
                 .forJob(jobDetail)
@@ -106,7 +192,7 @@ public class TaskServiceImpl implements TaskService {
                 .withDescription(task.getDescription())
                 .withSchedule(
                         CronScheduleBuilder
-                                .cronSchedule(task.getCronExpression())
+                                .cronSchedule(cron)
                                 .withMisfireHandlingInstructionDoNothing()
                 )
                 .build();
@@ -124,6 +210,8 @@ public class TaskServiceImpl implements TaskService {
         response.setStatus(task.getStatus());
         response.setCreatedAt(task.getCreatedAt());
         response.setLastExecutedAt(task.getLastExecutedAt());
+        response.setMaxAttempts(task.getMaxAttempts());
+        response.setRetryBackoffMs(task.getRetryBackoffMs());
         return response;
     }
 
@@ -161,6 +249,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskRepository.delete(existing);
+        taskCache.evict(taskId);
+        fireTimeForecast.remove(taskId);
     }
 
 
@@ -169,11 +259,7 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse updateTask(Long taskId, TaskRequest request) {
 
         Task task = getTaskByIdAndUser(taskId);
-        task.setName(request.getName());
-        task.setDescription(request.getDescription());
-        task.setCronExpression(request.getCronExpression());
-        task.setTaskType(request.getTaskType());
-        task.setActionPayload(request.getActionPayload());
+        applyRequest(task, request);
 
         Task updatedTask = taskRepository.save(task);
 
@@ -182,6 +268,8 @@ public class TaskServiceImpl implements TaskService {
         } catch (SchedulerException e) {
             throw new RuntimeException("Failed to reschedule task: " + e.getMessage(), e);
         }
+        taskCache.put(updatedTask);
+        fireTimeForecast.put(updatedTask);
 
         return mapToResponse(updatedTask);
     }
@@ -193,15 +281,191 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public List<TaskResponse> getAllUserTasks() {
+    public TaskPageResponse getUserTaskPage(Long cursor, int size, TaskStatus status, TaskType taskType) {
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return taskRepository.findByUserId(currentUser.getId())
-                .stream()
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        long afterId = cursor != null ? cursor : 0L;
+        // one extra row tells us whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Task> rows;
+        if (status != null && taskType != null) {
+            rows = taskRepository.findByUserIdAndStatusAndTaskTypeAndIdGreaterThanOrderByIdAsc(
+                    currentUser.getId(), status, taskType, afterId, limit);
+        } else if (status != null) {
+            rows = taskRepository.findByUserIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                    currentUser.getId(), status, afterId, limit);
+        } else if (taskType != null) {
+            rows = taskRepository.findByUserIdAndTaskTypeAndIdGreaterThanOrderByIdAsc(
+                    currentUser.getId(), taskType, afterId, limit);
+        } else {
+            rows = taskRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(currentUser.getId(), afterId, limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Task> page = hasMore ? rows.subList(0, pageSize) : rows;
+        List<TaskResponse> items = page.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new TaskPageResponse(items, nextCursor, items.size());
     }
 
+    @Transactional
+    @Override
+    public List<BulkTaskResult> bulkCreateTasks(List<TaskRequest> requests) {
+        checkBulkSize(requests);
+        long startTime = System.nanoTime();
+        User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-}
+        BulkTaskResult[] results = new BulkTaskResult[requests.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results[i] = new BulkTaskResult(i, null, false, error);
+                continue;
+            }
+            Task task = new Task();
+            applyRequest(task, request);
+            task.setUserId(currentUser.getId());
+            task.setStatus(TaskStatus.ACTIVE);
+            tasks.add(task);
+            indexes.add(i);
+        }
+
+        if (!tasks.isEmpty()) {
+            List<Task> saved = taskRepository.saveAll(tasks);
+            long schedulerStart = System.nanoTime();
+            try {
+                scheduleTasks(saved, false);
+            } catch (SchedulerException e) {
+                throw new RuntimeException("Failed to schedule tasks: " + e.getMessage(), e);
+            }
+            long schedulerEnd = System.nanoTime();
+            for (int i = 0; i < saved.size(); i++) {
+                Task task = saved.get(i);
+                taskCache.put(task);
+                fireTimeForecast.put(task);
+                results[indexes.get(i)] = new BulkTaskResult(indexes.get(i), task.getId(), true, null);
+            }
+            logger.info("Tasks created in bulk | count={} | totalTimeMs={} | schedulerTimeMs={}",
+                    saved.size(),
+                    (System.nanoTime() - startTime) / 1_000_000,
+                    (schedulerEnd - schedulerStart) / 1_000_000);
+        }
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    @Override
+    public List<BulkTaskResult> bulkUpdateTasks(List<BulkTaskUpdateItem> items) {
+        checkBulkSize(items);
+        User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
+        Map<Long, Task> owned = findOwned(items.stream()
+                .filter(item -> item != null && item.getId() != null)
+                .map(BulkTaskUpdateItem::getId)
+                .collect(Collectors.toSet()), currentUser);
+
+        BulkTaskResult[] results = new BulkTaskResult[items.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkTaskUpdateItem item = items.get(i);
+            Long taskId = item != null ? item.getId() : null;
+            String error = taskId == null ? "Task id is required" : validate(item.getTask());
+            Task task = taskId != null ? owned.get(taskId) : null;
+            if (error == null && task == null) {
+                error = "Task not found";
+            }
+            if (error == null && !seen.add(taskId)) {
+                error = "Duplicate task id";
+            }
+            if (error != null) {
+                results[i] = new BulkTaskResult(i, taskId, false, error);
+                continue;
+            }
+            applyRequest(task, item.getTask());
+            tasks.add(task);
+            indexes.add(i);
+        }
+
+        if (!tasks.isEmpty()) {
+            List<Task> saved = taskRepository.saveAll(tasks);
+            List<JobKey> jobKeys = saved.stream()
+                    .map(task -> JobKey.jobKey(task.getId().toString(), "user-tasks"))
+                    .collect(Collectors.toList());
+            try {
+                // deleting the jobs also drops their pending retry and deferred triggers,
+                // which would otherwise still fire with the old definition's attempt count
+                scheduler.deleteJobs(jobKeys);
+                scheduleTasks(saved, false);
+            } catch (SchedulerException e) {
+                throw new RuntimeException("Failed to reschedule tasks: " + e.getMessage(), e);
+            }
+            for (int i = 0; i < saved.size(); i++) {
+                Task task = saved.get(i);
+                taskCache.put(task);
+                fireTimeForecast.put(task);
+                results[indexes.get(i)] = new BulkTaskResult(indexes.get(i), task.getId(), true, null);
+            }
+            logger.info("Tasks updated in bulk | count={}", saved.size());
+        }
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    @Override
+    public List<BulkTaskResult> bulkDeleteTasks(List<Long> taskIds) {
+        checkBulkSize(taskIds);
+        User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
+        Map<Long, Task> owned = findOwned(taskIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()), currentUser);
+
+        BulkTaskResult[] results = new BulkTaskResult[taskIds.size()];
+        Map<Long, Task> toDelete = new LinkedHashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            Long taskId = taskIds.get(i);
+            Task task = taskId != null ? owned.get(taskId) : null;
+            if (task == null) {
+                String error = taskId == null ? "Task id is required" : "Task not found";
+                results[i] = new BulkTaskResult(i, taskId, false, error);
+                continue;
+            }
+            toDelete.put(taskId, task);
+            results[i] = new BulkTaskResult(i, taskId, true, null);
+        }
+
+        if (!toDelete.isEmpty()) {
+            List<JobKey> jobKeys = toDelete.keySet().stream()
+                    .map(id -> JobKey.jobKey(id.toString(), "user-tasks"))
+                    .collect(Collectors.toList());
+            try {
+                scheduler.deleteJobs(jobKeys);
+            } catch (SchedulerException e) {
+                logger.warn("Failed to unschedule Quartz jobs for {} tasks", jobKeys.size(), e);
+            }
+            taskRepository.deleteAllInBatch(toDelete.values());
+            toDelete.keySet().forEach(taskCache::evict);
+            toDelete.keySet().forEach(fireTimeForecast::remove);
+            logger.info("Tasks deleted in bulk | count={}", toDelete.size());
+        }
+        return Arrays.asList(results);
+    }
+
+    // tasks of other users are left out, so they read as not found rather than leaking their existence
+    private Map<Long, Task> findOwned(Set<Long> taskIds, User currentUser) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllById(taskIds).stream()
+                .filter(task -> task.getUserId().equals(currentUser.getId()))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+}
@@ -1,19 +1,24 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security.UserPrincipalCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
@@ -26,4 +31,22 @@ public class UserServiceImpl implements UserDetailsService {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
+
+    /**
+     * enable or disable a user. Disabling revokes the user's outstanding tokens on this
+     * node straight away; other nodes notice once their cached entry expires.
+     */
+    @Transactional
+    public void setEnabled(Long userId, boolean enabled) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        user.setEnabled(enabled);
+        userRepository.save(user);
+
+        if (enabled) {
+            userPrincipalCache.invalidate(userId);
+        } else {
+            userPrincipalCache.revoke(userId);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.WeatherService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenWeather lookups behind a TTL cache keyed by normalized location and units.
+ *
+ * Concurrent lookups for the same key share one in-flight request, so many WEATHER
+ * tasks firing for the same city in the same second cost a single upstream call.
+ * Failed lookups are not cached.
+ */
+@Service
+public class WeatherServiceImpl implements WeatherService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeatherServiceImpl.class);
+
+    private final HttpService httpService;
+    private final Map<String, CachedWeather> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    @Value("${weather.api-key}")
+    private String weatherApiKey;
+
+    @Value("${weather.base-url}")
+    private String weatherBaseUrl;
+
+    @Value("${weather.units:metric}")
+    private String weatherUnits;
+
+    @Value("${weather.cache.ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    @Value("${weather.cache.max-entries:1000}")
+    private int cacheMaxEntries;
+
+    public WeatherServiceImpl(HttpService httpService, MeterRegistry meterRegistry) {
+        this.httpService = httpService;
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.coalesced = cacheRequests(meterRegistry, "coalesced");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("weather.cache.size", cache, Map::size)
+                .description("Locations currently held in the weather cache")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weather.cache.requests")
+                .description("Weather lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public OpenWeatherResponseDto getCurrentWeather(String location) {
+        String key = cacheKey(location);
+        long now = System.nanoTime();
+        CachedWeather candidate = new CachedWeather(new CompletableFuture<>(),
+                now + Duration.ofSeconds(cacheTtlSeconds).toNanos());
+
+        CachedWeather entry = cache.compute(key,
+                (k, existing) -> existing != null && !existing.isExpired(now) ? existing : candidate);
+
+        if (entry != candidate) {
+            if (entry.weather().isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            return await(entry);
+        }
+
+        misses.increment();
+        evictIfFull();
+        try {
+            OpenWeatherResponseDto weather = fetch(location);
+            candidate.weather().complete(weather);
+            return weather;
+        } catch (Throwable e) {
+            // Errors too, or the callers coalesced onto this lookup would wait forever
+            cache.remove(key, candidate);
+            candidate.weather().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private OpenWeatherResponseDto fetch(String location) {
+        // Build the OpenWeather API URL with required query parameters
+        String url = UriComponentsBuilder.fromUriString(weatherBaseUrl)
+                .queryParam("q", location.trim())   // location provided by user
+                .queryParam("appid", weatherApiKey) // OpenWeather API key
+                .queryParam("units", weatherUnits)  // temperature unit (metric/imperial)
+                .encode()
+                .build()
+                .toUriString();
+
+        logger.debug("Fetching weather for location='{}'", location);
+        OpenWeatherResponseDto weather = httpService.getForObject(url, OpenWeatherResponseDto.class);
+
+        if (weather == null || weather.getMain() == null) {
+            throw new ExternalServiceException("Invalid response from OpenWeather API");
+        }
+        return weather;
+    }
+
+    private static OpenWeatherResponseDto await(CachedWeather entry) {
+        try {
+            return entry.weather().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ExternalServiceException("Weather lookup failed: " + e.getMessage());
+        }
+    }
+
+    private String cacheKey(String location) {
+        String normalized = location.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized + "|" + weatherUnits;
+    }
+
+    private void evictIfFull() {
+        if (cache.size() <= cacheMaxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.isExpired(now));
+
+        Iterator<String> keys = cache.keySet().iterator();
+        while (cache.size() > cacheMaxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record CachedWeather(CompletableFuture<OpenWeatherResponseDto> weather, long expiresAtNanos) {
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
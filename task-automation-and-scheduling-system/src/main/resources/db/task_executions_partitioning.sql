@@ -0,0 +1,66 @@
+-- Converts task_executions into a table range-partitioned by start_time (PostgreSQL 12+).
+--
+-- Run once with every application node stopped:
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f task_executions_partitioning.sql
+--
+-- Monthly partitions are created here for the existing history and the next two months.
+-- From then on the execution-history maintenance job creates upcoming partitions and
+-- drops expired ones (execution-history.* in application.yaml). To partition by day
+-- instead, set EXECUTION_HISTORY_PARTITION_GRANULARITY=DAILY: the job skips days an
+-- attached monthly partition already covers, so daily partitions start with the first
+-- uncovered month and the monthly ones expire as whole months. Switching back to
+-- MONTHLY fills a month that is partly covered by daily partitions day by day.
+
+BEGIN;
+
+ALTER TABLE task_executions RENAME TO task_executions_unpartitioned;
+ALTER TABLE task_executions_unpartitioned RENAME CONSTRAINT task_executions_pkey TO task_executions_unpartitioned_pkey;
+ALTER INDEX IF EXISTS idx_task_exec_task_id RENAME TO idx_task_exec_unpartitioned_task_id;
+ALTER INDEX IF EXISTS idx_task_exec_status RENAME TO idx_task_exec_unpartitioned_status;
+ALTER INDEX IF EXISTS idx_task_exec_start RENAME TO idx_task_exec_unpartitioned_start;
+ALTER INDEX IF EXISTS idx_task_exec_task_id_id RENAME TO idx_task_exec_unpartitioned_task_id_id;
+
+-- the partition key has to be part of the primary key; ids still come from task_executions_seq
+CREATE TABLE task_executions (
+    id            bigint        NOT NULL,
+    task_id       bigint        NOT NULL,
+    start_time    timestamp(6)  NOT NULL,
+    end_time      timestamp(6),
+    status        varchar(20)   NOT NULL,
+    error_message varchar(5000),
+    result        varchar(5000),
+    attempt       integer,
+    CONSTRAINT task_executions_pkey PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+CREATE INDEX idx_task_exec_task_id ON task_executions (task_id);
+CREATE INDEX idx_task_exec_status ON task_executions (status);
+CREATE INDEX idx_task_exec_start ON task_executions (start_time);
+CREATE INDEX idx_task_exec_task_id_id ON task_executions (task_id, id);
+
+-- catches rows outside every partition so a missed maintenance run never fails inserts;
+-- it is expected to stay empty
+CREATE TABLE task_executions_default PARTITION OF task_executions DEFAULT;
+
+DO $$
+DECLARE
+    month_start date := date_trunc('month', COALESCE((SELECT MIN(start_time) FROM task_executions_unpartitioned),
+                                                     now()));
+    last_month  date := date_trunc('month', now()) + interval '2 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE task_executions_p%s PARTITION OF task_executions FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month_start, 'YYYY_MM'), month_start, month_start + interval '1 month');
+        month_start := month_start + interval '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO task_executions (id, task_id, start_time, end_time, status, error_message, result, attempt)
+SELECT id, task_id, start_time, end_time, status, error_message, result, attempt
+FROM task_executions_unpartitioned;
+
+DROP TABLE task_executions_unpartitioned;
+
+COMMIT;
+
+ANALYZE task_executions;
@@ -0,0 +1,16 @@
+-- Drops the CHECK constraint Hibernate generated on task_executions.status.
+--
+-- Run once on databases whose task_executions table was created by
+-- spring.jpa.hibernate.ddl-auto before ExecutionStatus.CIRCUIT_OPEN existed:
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f task_executions_status_check.sql
+--
+-- ddl-auto=update never rewrites an existing constraint, so that one only allows
+-- RUNNING, SUCCESS and FAILED and every CIRCUIT_OPEN row is rejected. The column is
+-- written from the ExecutionStatus enum only, so nothing replaces it, the same as a
+-- table converted by task_executions_partitioning.sql. Safe to run more than once.
+
+BEGIN;
+
+ALTER TABLE task_executions DROP CONSTRAINT IF EXISTS task_executions_status_check;
+
+COMMIT;
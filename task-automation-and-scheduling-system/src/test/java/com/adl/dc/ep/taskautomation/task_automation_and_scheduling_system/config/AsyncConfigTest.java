@@ -0,0 +1,148 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AsyncConfig config = new AsyncConfig();
+        ReflectionTestUtils.setField(config, "coreSize", 1);
+        ReflectionTestUtils.setField(config, "maxSize", 1);
+        ReflectionTestUtils.setField(config, "queueCapacity", 2);
+        ReflectionTestUtils.setField(config, "awaitTerminationSeconds", 5);
+        executor = config.notificationExecutor(meterRegistry);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    @Test
+    void execute_returnsImmediately_andExposesQueueDepth() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        long submitStart = System.nanoTime();
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        executor.execute(() -> { });
+        long submitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitStart);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(submitMillis < 1000, "submit took " + submitMillis + "ms");
+        assertEquals(1.0, gauge("notification.executor.active"));
+        assertEquals(1.0, gauge("notification.executor.queue.size"));
+
+        release.countDown();
+    }
+
+    @Test
+    void execute_whenQueueFull_runsOnCallerThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> { });
+        executor.execute(() -> { });
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+        release.countDown();
+    }
+
+    @Test
+    void shutdown_drainsQueuedNotifications_andRecordsLatency() {
+        AtomicInteger sent = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                sleep(20);
+                sent.incrementAndGet();
+            });
+        }
+
+        executor.shutdown();
+
+        assertEquals(3, sent.get());
+        assertEquals(3, meterRegistry.get("notification.handoff").timer().count());
+        assertEquals(3, meterRegistry.get("notification.queue.wait").timer().count());
+        assertTrue(meterRegistry.get("notification.queue.wait").timer().max(TimeUnit.MILLISECONDS) >= 20);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void applicationTaskExecutor_isKeptNextToNotificationExecutor() {
+        // Boot backs off its own executor once any executor bean exists, unless told otherwise
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.getEnvironment().getPropertySources().addLast(applicationYaml()))
+                .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+                .withUserConfiguration(AsyncConfig.class)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run(context -> {
+                    assertTrue(context.containsBean(AsyncConfig.NOTIFICATION_EXECUTOR));
+                    assertTrue(context.containsBean("applicationTaskExecutor"),
+                            "MVC async would fall back to SimpleAsyncTaskExecutor");
+                });
+    }
+
+    private static PropertySource<?> applicationYaml() {
+        try {
+            return new YamlPropertySourceLoader().load("application.yaml", new ClassPathResource("application.yaml")).get(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
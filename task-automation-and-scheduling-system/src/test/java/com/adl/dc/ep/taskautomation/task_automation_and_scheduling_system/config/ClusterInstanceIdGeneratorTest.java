@@ -0,0 +1,56 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterInstanceIdGeneratorTest {
+
+    private static final String PID_SUFFIX = "-" + ProcessHandle.current().pid();
+
+    private static ClusterInstanceIdGenerator generator(Map<String, String> env, boolean containerMarker) {
+        return new ClusterInstanceIdGenerator(env::get, () -> containerMarker);
+    }
+
+    @Test
+    void hostnameSetOutsideContainer_shouldAppendPid() throws Exception {
+        ClusterInstanceIdGenerator generator = generator(Map.of("HOSTNAME", "build-vm-01"), false);
+
+        assertEquals("build-vm-01" + PID_SUFFIX, generator.generateInstanceId());
+    }
+
+    @Test
+    void hostnameSetWithContainerMarker_shouldUseHostnameAlone() throws Exception {
+        ClusterInstanceIdGenerator generator = generator(Map.of("HOSTNAME", "scheduler-7d9f"), true);
+
+        assertEquals("scheduler-7d9f", generator.generateInstanceId());
+    }
+
+    @Test
+    void hostnameSetInKubernetes_shouldUseHostnameAlone() throws Exception {
+        ClusterInstanceIdGenerator generator = generator(
+                Map.of("HOSTNAME", " scheduler-0 ", "KUBERNETES_SERVICE_HOST", "10.0.0.1"), false);
+
+        assertEquals("scheduler-0", generator.generateInstanceId());
+    }
+
+    @Test
+    void hostnameSetWithOptIn_shouldUseHostnameAlone() throws Exception {
+        ClusterInstanceIdGenerator generator = generator(Map.of("HOSTNAME", "build-vm-01"), false);
+        generator.setUseHostname(true);
+
+        assertEquals("build-vm-01", generator.generateInstanceId());
+    }
+
+    @Test
+    void hostnameBlankInContainer_shouldFallBackToResolvedHostAndPid() throws Exception {
+        ClusterInstanceIdGenerator generator = generator(Map.of("HOSTNAME", "  "), true);
+
+        String id = generator.generateInstanceId();
+
+        assertTrue(id.endsWith(PID_SUFFIX), id);
+        assertTrue(id.length() > PID_SUFFIX.length(), id);
+    }
+}
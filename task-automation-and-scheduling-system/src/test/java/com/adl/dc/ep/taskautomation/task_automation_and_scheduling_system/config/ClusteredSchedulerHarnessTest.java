@@ -0,0 +1,222 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts several clustered Quartz schedulers in one JVM against a shared in-memory
+ * H2 database, configured from the Quartz properties in application.yaml, and checks
+ * that every trigger fires exactly once and that every node takes part.
+ *
+ * Only deterministic facts are asserted; drain time is logged for a rough throughput
+ * reading, the JMH benchmarks are the place to compare it.
+ */
+class ClusteredSchedulerHarnessTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusteredSchedulerHarnessTest.class);
+
+    private static final String APP_CONFIG = "application.yaml";
+    private static final String QUARTZ_PREFIX = "spring.quartz.properties.";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{[^:}]+:([^}]*)}");
+    private static final String SCHEMA_SCRIPT = "quartz/tables_cluster_harness.sql";
+    private static final int NODE_COUNT = 3;
+    private static final int JOB_COUNT = 120;
+    private static final int THREADS_PER_NODE = 2;
+    private static final long JOB_WORK_MS = 20;
+
+    static final Map<String, AtomicInteger> FIRINGS_BY_NODE = new ConcurrentHashMap<>();
+    static final Set<String> FIRED_JOBS = ConcurrentHashMap.newKeySet();
+    static final AtomicInteger DUPLICATE_FIRINGS = new AtomicInteger();
+    static volatile CountDownLatch allThreadsBusy;
+    static volatile CountDownLatch remaining;
+
+    private final List<SchedulerFactoryBean> nodes = new ArrayList<>();
+
+    /**
+     * Stands in for an I/O bound task: records which node ran it and sleeps. The first
+     * jobs hold their thread until every thread of every node is busy, which can only
+     * happen once each node has acquired triggers of its own.
+     */
+    public static class SimulatedIoJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            try {
+                String node = context.getScheduler().getSchedulerInstanceId();
+                FIRINGS_BY_NODE.computeIfAbsent(node, k -> new AtomicInteger()).incrementAndGet();
+                if (!FIRED_JOBS.add(context.getJobDetail().getKey().getName())) {
+                    DUPLICATE_FIRINGS.incrementAndGet();
+                }
+                allThreadsBusy.countDown();
+                allThreadsBusy.await(30, TimeUnit.SECONDS);
+                Thread.sleep(JOB_WORK_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (SchedulerException e) {
+                throw new JobExecutionException(e);
+            } finally {
+                remaining.countDown();
+            }
+        }
+    }
+
+    @AfterEach
+    void shutdownNodes() throws SchedulerException {
+        for (SchedulerFactoryBean node : nodes) {
+            node.destroy();
+        }
+        nodes.clear();
+    }
+
+    @Test
+    void clusteredNodes_shouldFireEachTriggerOnce_andShareTheBacklog() throws Exception {
+        FIRINGS_BY_NODE.clear();
+        FIRED_JOBS.clear();
+        DUPLICATE_FIRINGS.set(0);
+        allThreadsBusy = new CountDownLatch(NODE_COUNT * THREADS_PER_NODE);
+        remaining = new CountDownLatch(JOB_COUNT);
+
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:qrtz_cluster;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        createQuartzTables(dataSource);
+
+        Properties appQuartzProperties = loadAppQuartzProperties();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(newNode(dataSource, appQuartzProperties, "node-" + i));
+        }
+
+        // nodes are still in standby, so the whole backlog is due by the time they start
+        Scheduler first = nodes.get(0).getObject();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            JobDetail job = JobBuilder.newJob(SimulatedIoJob.class)
+                    .withIdentity("job-" + i, "harness")
+                    .build();
+            Trigger trigger = TriggerBuilder.newTrigger()
+                    .withIdentity("trigger-" + i, "harness")
+                    .startNow()
+                    .build();
+            first.scheduleJob(job, trigger);
+        }
+
+        long start = System.nanoTime();
+        for (SchedulerFactoryBean node : nodes) {
+            node.start();
+        }
+        assertTrue(remaining.await(60, TimeUnit.SECONDS), "backlog was not drained, fired " + FIRED_JOBS.size());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        logger.info("Cluster harness | nodes={} | jobs={} | {}ms ({} jobs/s) | firings by node {}",
+                NODE_COUNT, JOB_COUNT, elapsedMs, JOB_COUNT * 1000L / Math.max(elapsedMs, 1), FIRINGS_BY_NODE);
+
+        assertEquals(JOB_COUNT, FIRED_JOBS.size());
+        assertEquals(0, DUPLICATE_FIRINGS.get(), "a trigger fired on more than one node");
+        assertEquals(0, allThreadsBusy.getCount(), "not every node had all its threads busy: " + FIRINGS_BY_NODE);
+        assertEquals(NODE_COUNT, FIRINGS_BY_NODE.size(), "every node should have fired: " + FIRINGS_BY_NODE);
+        FIRINGS_BY_NODE.forEach((node, firings) ->
+                assertTrue(firings.get() >= THREADS_PER_NODE, node + " fired only " + firings.get()));
+        assertEquals(JOB_COUNT, FIRINGS_BY_NODE.values().stream().mapToInt(AtomicInteger::get).sum());
+    }
+
+    /**
+     * Builds a node the way Spring Boot builds the app's scheduler: the same
+     * {@code org.quartz.*} properties from application.yaml (placeholders at their
+     * defaults) and the same LocalDataSourceJobStore over a shared DataSource.
+     * Only what the deployment sets through the environment is overridden.
+     */
+    private static SchedulerFactoryBean newNode(DataSource dataSource, Properties appQuartzProperties,
+                                                String instanceId) throws Exception {
+        Properties props = new Properties();
+        props.putAll(appQuartzProperties);
+        // QUARTZ_CLUSTERED=true
+        props.setProperty("org.quartz.jobStore.isClustered", "true");
+        props.setProperty("org.quartz.jobStore.clusterCheckinInterval", "1000");
+        // QUARTZ_THREAD_COUNT, kept small so the backlog outlasts one node's threads
+        props.setProperty("org.quartz.threadPool.threadCount", String.valueOf(THREADS_PER_NODE));
+        // QUARTZ_INSTANCE_ID: nodes in one JVM share a pid, so AUTO would give them all the same id
+        props.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        props.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setQuartzProperties(props);
+        factory.setDataSource(dataSource);
+        factory.setAutoStartup(false);
+        factory.setWaitForJobsToCompleteOnShutdown(true);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private static Properties loadAppQuartzProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(APP_CONFIG));
+        Properties appConfig = yaml.getObject();
+        assertNotNull(appConfig, APP_CONFIG + " is missing from the classpath");
+
+        Properties quartz = new Properties();
+        appConfig.forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith(QUARTZ_PREFIX + "org.quartz.")) {
+                Matcher placeholder = PLACEHOLDER.matcher(value.toString());
+                quartz.setProperty(name.substring(QUARTZ_PREFIX.length()),
+                        placeholder.replaceAll(m -> Matcher.quoteReplacement(m.group(1))));
+            }
+        });
+        assertEquals(ClusterInstanceIdGenerator.class.getName(),
+                quartz.getProperty("org.quartz.scheduler.instanceIdGenerator.class"));
+        return quartz;
+    }
+
+    private static void createQuartzTables(DataSource dataSource) throws Exception {
+        String script;
+        try (InputStream in = ClusteredSchedulerHarnessTest.class.getClassLoader().getResourceAsStream(SCHEMA_SCRIPT)) {
+            assertNotNull(in, SCHEMA_SCRIPT + " is missing from the test classpath");
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String chunk : script.split(";")) {
+                String sql = chunk.lines()
+                        .filter(line -> !line.trim().startsWith("--"))
+                        .collect(Collectors.joining("\n"))
+                        .trim();
+                if (!sql.isEmpty()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SchedulerMetaData;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerMetricsTest {
+
+    @Mock
+    private Scheduler scheduler;
+
+    @Test
+    void gauges_reportPoolSizeAndRunningJobs() throws Exception {
+        SchedulerMetaData metaData = mock(SchedulerMetaData.class);
+        when(metaData.getThreadPoolSize()).thenReturn(100);
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(scheduler.getCurrentlyExecutingJobs())
+                .thenReturn(List.of(mock(JobExecutionContext.class), mock(JobExecutionContext.class)));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        new SchedulerMetrics(scheduler).bindTo(meterRegistry);
+
+        assertEquals(100.0, meterRegistry.get("quartz.threads.max").gauge().value());
+        assertEquals(2.0, meterRegistry.get("quartz.jobs.executing").gauge().value());
+    }
+
+    @Test
+    void gauges_whenSchedulerFails_areNaN() throws Exception {
+        when(scheduler.getMetaData()).thenThrow(new SchedulerException("shut down"));
+        when(scheduler.getCurrentlyExecutingJobs()).thenThrow(new SchedulerException("shut down"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        new SchedulerMetrics(scheduler).bindTo(meterRegistry);
+
+        assertTrue(Double.isNaN(meterRegistry.get("quartz.threads.max").gauge().value()));
+        assertTrue(Double.isNaN(meterRegistry.get("quartz.jobs.executing").gauge().value()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityConfigTest {
+
+    private static SecurityConfig config(int serverPort, int managementPort) {
+        SecurityConfig config = new SecurityConfig(null, null);
+        ReflectionTestUtils.setField(config, "serverPort", serverPort);
+        ReflectionTestUtils.setField(config, "managementPort", managementPort);
+        return config;
+    }
+
+    private static MockHttpServletRequest request(int localPort, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setLocalPort(localPort);
+        return request;
+    }
+
+    @Test
+    void scrape_isOpenOnlyOnTheManagementPort() {
+        SecurityConfig config = config(8080, 8081);
+
+        assertTrue(config.isScrapeOnManagementPort(request(8081, "/actuator/prometheus")));
+        assertFalse(config.isScrapeOnManagementPort(request(8080, "/actuator/prometheus")));
+        assertFalse(config.isScrapeOnManagementPort(request(8081, "/actuator/env")));
+    }
+
+    @Test
+    void scrape_needsAuthentication_whenManagementSharesTheApiPort() {
+        SecurityConfig config = config(8080, 8080);
+
+        assertFalse(config.isScrapeOnManagementPort(request(8080, "/actuator/prometheus")));
+    }
+}
@@ -0,0 +1,141 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPoolTest {
+
+    private VirtualThreadPool pool;
+
+    private VirtualThreadPool newPool(int threadCount) throws SchedulerConfigException {
+        VirtualThreadPool p = new VirtualThreadPool();
+        p.setInstanceName("TestScheduler");
+        p.setThreadCount(threadCount);
+        p.initialize();
+        return p;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown(false);
+        }
+    }
+
+    @Test
+    void initialize_withNonPositiveThreadCount_shouldFail() {
+        VirtualThreadPool p = new VirtualThreadPool();
+        p.setThreadCount(0);
+
+        assertThrows(SchedulerConfigException.class, p::initialize);
+    }
+
+    @Test
+    void runInThread_shouldRunJobOnVirtualThread() throws Exception {
+        pool = newPool(2);
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertTrue(pool.runInThread(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        }));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+        assertEquals(2, pool.getPoolSize());
+    }
+
+    @Test
+    void runInThread_shouldNeverExceedThreadCount() throws Exception {
+        int cap = 4;
+        int jobs = 200;
+        pool = newPool(cap);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(jobs);
+
+        for (int i = 0; i < jobs; i++) {
+            assertTrue(pool.runInThread(() -> {
+                int now = running.incrementAndGet();
+                maxRunning.accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            }));
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= cap, "max concurrent jobs was " + maxRunning.get());
+    }
+
+    @Test
+    void blockForAvailableThreads_shouldReportFreeSlots() throws Exception {
+        pool = newPool(3);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        assertEquals(3, pool.blockForAvailableThreads());
+
+        pool.runInThread(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(2, pool.blockForAvailableThreads());
+        assertEquals(1, pool.getActiveCount());
+        release.countDown();
+    }
+
+    @Test
+    void runInThread_afterShutdown_shouldReturnFalse() throws Exception {
+        pool = newPool(1);
+        pool.shutdown(true);
+
+        assertFalse(pool.runInThread(() -> { }));
+        assertEquals(0, pool.blockForAvailableThreads());
+    }
+
+    @Test
+    void blockForAvailableThreads_whenFull_returnsOnceShutDown() throws Exception {
+        pool = newPool(1);
+        Semaphore hold = new Semaphore(0);
+        CountDownLatch started = new CountDownLatch(1);
+        // keeps its slot even when shutdown interrupts it
+        pool.runInThread(() -> {
+            started.countDown();
+            hold.acquireUninterruptibly();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> available = CompletableFuture.supplyAsync(pool::blockForAvailableThreads);
+        Thread.sleep(100);
+        assertFalse(available.isDone());
+
+        pool.shutdown(false);
+
+        assertEquals(0, available.get(5, TimeUnit.SECONDS));
+        hold.release();
+    }
+}
@@ -0,0 +1,39 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionEventControllerTest {
+
+    @InjectMocks
+    private ExecutionEventController executionEventController;
+
+    @Mock
+    private ExecutionEventService executionEventService;
+
+    @Test
+    void streamExecutions_shouldSubscribeCurrentUser() {
+        // given
+        User user = new User();
+        user.setId(42L);
+        SseEmitter emitter = new SseEmitter();
+        when(executionEventService.subscribe(42L)).thenReturn(emitter);
+
+        // when
+        SseEmitter response = executionEventController.streamExecutions(user);
+
+        // then
+        assertSame(emitter, response);
+        verify(executionEventService).subscribe(42L);
+    }
+}
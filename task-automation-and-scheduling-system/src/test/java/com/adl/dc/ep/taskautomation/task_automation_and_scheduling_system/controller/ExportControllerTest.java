@@ -0,0 +1,100 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExportLimitExceededException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    @InjectMocks
+    private ExportController exportController;
+
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private ExportService.Slot slot;
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    @Test
+    void exportTasks_shouldStreamNdjsonForCurrentUser() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(exportService.acquireSlot()).thenReturn(slot);
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks(user(42L));
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ExportController.NDJSON, response.getHeaders().getContentType());
+        verify(exportService, never()).exportTasks(any(), any());
+        verifyNoInteractions(slot);
+
+        response.getBody().writeTo(out);
+        verify(exportService).exportTasks(42L, out);
+        verify(slot).close();
+    }
+
+    @Test
+    void exportExecutions_shouldPassFilters() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 2, 1, 0, 0);
+        when(exportService.acquireSlot()).thenReturn(slot);
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = exportController.exportExecutions(user(42L), 7L, from, to);
+        response.getBody().writeTo(out);
+
+        // then
+        verify(exportService).exportExecutions(42L, 7L, from, to, out);
+        verify(slot).close();
+    }
+
+    @Test
+    void exportTasks_whenExportFails_stillReleasesSlot() {
+        // given
+        when(exportService.acquireSlot()).thenReturn(slot);
+        when(exportService.exportTasks(eq(42L), any())).thenThrow(new IllegalStateException("connection lost"));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks(user(42L));
+
+        // then
+        assertThrows(IllegalStateException.class, () -> response.getBody().writeTo(new ByteArrayOutputStream()));
+        verify(slot).close();
+    }
+
+    @Test
+    void exportTasks_whenAllSlotsTaken_isRejectedBeforeStreaming() {
+        // given
+        when(exportService.acquireSlot()).thenThrow(new ExportLimitExceededException("Too many exports running"));
+
+        // when / then
+        assertThrows(ExportLimitExceededException.class, () -> exportController.exportTasks(user(42L)));
+        verify(exportService, never()).exportTasks(any(), any());
+    }
+}
@@ -1,8 +1,17 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.controller;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ApiResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskResult;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionRollupResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskExecutionService;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +36,9 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskExecutionService taskExecutionService;
+
     @Test
     void createTask_shouldReturnCreated_andWrappedApiResponse() {
         // given
@@ -96,4 +110,112 @@ class TaskControllerTest {
         verifyNoMoreInteractions(taskService);
     }
 
+    @Test
+    void bulkCreateTasks_shouldReturnOk_withPerItemResults() {
+        // given
+        List<TaskRequest> requests = List.of(mock(TaskRequest.class), mock(TaskRequest.class));
+        List<BulkTaskResult> results = List.of(
+                new BulkTaskResult(0, 1L, true, null),
+                new BulkTaskResult(1, null, false, "Task name is required"));
+        when(taskService.bulkCreateTasks(requests)).thenReturn(results);
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.bulkCreateTasks(requests);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ApiResponse body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.isSuccess());
+        assertEquals("1 of 2 tasks created", body.getMessage());
+        assertSame(results, body.getData());
+
+        verify(taskService).bulkCreateTasks(requests);
+        verifyNoMoreInteractions(taskService);
+    }
+
+    @Test
+    void getTaskPage_shouldReturnOk_andWrappedPage() {
+        // given
+        TaskPageResponse page = mock(TaskPageResponse.class);
+        when(taskService.getUserTaskPage(100L, 25, TaskStatus.ACTIVE, TaskType.EMAIL)).thenReturn(page);
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.getTaskPage(100L, 25, TaskStatus.ACTIVE, TaskType.EMAIL);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ApiResponse body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.isSuccess());
+        assertSame(page, body.getData());
+
+        verify(taskService).getUserTaskPage(100L, 25, TaskStatus.ACTIVE, TaskType.EMAIL);
+        verifyNoMoreInteractions(taskService);
+    }
+
+    @Test
+    void getExecutions_shouldReturnOk_andWrappedPage() {
+        // given
+        TaskExecutionPageResponse page = mock(TaskExecutionPageResponse.class);
+        when(taskExecutionService.getExecutions(5L, null, 50, ExecutionStatus.FAILED, false)).thenReturn(page);
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.getExecutions(5L, null, 50, ExecutionStatus.FAILED, false);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ApiResponse body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.isSuccess());
+        assertSame(page, body.getData());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getExecution_shouldReturnOk_andWrappedExecution() {
+        // given
+        TaskExecutionResponse execution = mock(TaskExecutionResponse.class);
+        when(taskExecutionService.getExecution(5L, 77L)).thenReturn(execution);
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.getExecution(5L, 77L);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Execution retrieved successfully", response.getBody().getMessage());
+        assertSame(execution, response.getBody().getData());
+    }
+
+    @Test
+    void getRollups_shouldReturnOk_andWrappedRollups() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        List<TaskExecutionRollupResponse> rollups = List.of(new TaskExecutionRollupResponse());
+        when(taskExecutionService.getRollups(5L, from, null)).thenReturn(rollups);
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.getRollups(5L, from, null);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Rollups retrieved successfully", response.getBody().getMessage());
+        assertSame(rollups, response.getBody().getData());
+    }
+
+    @Test
+    void getAllTasks_readsOneBoundedPage_andPointsToTheRest() {
+        // given
+        List<TaskResponse> items = List.of(mock(TaskResponse.class), mock(TaskResponse.class));
+        when(taskService.getUserTaskPage(null, Integer.MAX_VALUE, null, null))
+                .thenReturn(new TaskPageResponse(items, 2L, 2));
+
+        // when
+        ResponseEntity<ApiResponse> response = taskController.getAllTasks();
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(items, response.getBody().getData());
+        assertTrue(response.getBody().getMessage().contains("/api/tasks/page?cursor=2"));
+    }
 }
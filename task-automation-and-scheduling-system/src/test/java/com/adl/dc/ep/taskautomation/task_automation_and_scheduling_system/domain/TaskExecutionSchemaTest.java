@@ -0,0 +1,99 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes executions through Hibernate into the schema it generates for TaskExecution,
+ * on an in-memory H2 database.
+ */
+class TaskExecutionSchemaTest {
+
+    private static final String STATUS_CHECK_SCRIPT = "db/task_executions_status_check.sql";
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(TaskExecution.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:task_execution_schema;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    private Long persist(ExecutionStatus status) {
+        return sessionFactory.fromTransaction(session -> {
+            TaskExecution execution = new TaskExecution(null, 1L, LocalDateTime.now(), LocalDateTime.now(),
+                    status, "circuit open for example.com", null);
+            session.persist(execution);
+            session.flush();
+            return execution.getId();
+        });
+    }
+
+    @Test
+    void generatedSchema_acceptsCircuitOpen() {
+        Long id = persist(ExecutionStatus.CIRCUIT_OPEN);
+
+        TaskExecution stored = sessionFactory.fromSession(session -> session.find(TaskExecution.class, id));
+        assertEquals(ExecutionStatus.CIRCUIT_OPEN, stored.getStatus());
+    }
+
+    @Test
+    void schemaFromBeforeCircuitOpen_acceptsItOnceTheStatusCheckScriptRan() throws Exception {
+        // what ddl-auto left behind on databases created before CIRCUIT_OPEN existed
+        sessionFactory.inTransaction(session -> execute(session, "ALTER TABLE task_executions "
+                + "ADD CONSTRAINT task_executions_status_check CHECK (status IN ('RUNNING', 'SUCCESS', 'FAILED'))"));
+        assertThrows(RuntimeException.class, () -> persist(ExecutionStatus.CIRCUIT_OPEN));
+
+        String script;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(STATUS_CHECK_SCRIPT)) {
+            assertNotNull(in, STATUS_CHECK_SCRIPT + " is missing from the classpath");
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        sessionFactory.inTransaction(session -> {
+            for (String chunk : script.split(";")) {
+                String sql = chunk.lines()
+                        .filter(line -> !line.trim().startsWith("--"))
+                        .collect(Collectors.joining("\n"))
+                        .trim();
+                // the test's own transaction replaces the script's
+                if (!sql.isEmpty() && !sql.equals("BEGIN") && !sql.equals("COMMIT")) {
+                    execute(session, sql);
+                }
+            }
+        });
+
+        assertNotNull(persist(ExecutionStatus.CIRCUIT_OPEN));
+        assertNotNull(persist(ExecutionStatus.SUCCESS));
+    }
+
+    private static void execute(Session session, String sql) {
+        session.doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.CronExpression;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CronSmearingTest {
+
+    static CronSmearing cronSmearing(boolean enabled, int windowSeconds) {
+        CronSmearing smearing = new CronSmearing();
+        ReflectionTestUtils.setField(smearing, "enabled", enabled);
+        ReflectionTestUtils.setField(smearing, "windowSeconds", windowSeconds);
+        return smearing;
+    }
+
+    @Test
+    void triggerCron_disabled_returnsCronAsWritten() {
+        assertEquals("0 0 * * * ?", cronSmearing(false, 60).triggerCron(7L, "0 0 * * * ?"));
+    }
+
+    @Test
+    void smeared_isDeterministic_andStaysInsideTheWindow() {
+        CronSmearing smearing = cronSmearing(true, 30);
+
+        for (long id = 1; id <= 200; id++) {
+            String smeared = smearing.smeared(id, "0 0 * * * ?");
+            assertEquals(smeared, smearing.smeared(id, "0 0 * * * ?"));
+            String[] fields = smeared.split(" ");
+            assertTrue(Integer.parseInt(fields[0]) < 30, smeared);
+            assertEquals("0 * * * ?", String.join(" ", fields[1], fields[2], fields[3], fields[4], fields[5]));
+        }
+    }
+
+    @Test
+    void smeared_consecutiveTasks_fillTheWindow() {
+        CronSmearing smearing = cronSmearing(true, 60);
+
+        Set<String> seconds = new HashSet<>();
+        LongStream.rangeClosed(101, 160).forEach(id -> seconds.add(smearing.smeared(id, "0 0 * * * ?")));
+
+        assertEquals(60, seconds.size());
+    }
+
+    @Test
+    void smeared_windowOverAMinute_carriesIntoFixedMinute_butNotPastTheHour() throws Exception {
+        CronSmearing smearing = cronSmearing(true, 3600);
+
+        for (long id = 1; id <= 200; id++) {
+            String smeared = smearing.smeared(id, "30 45 9 * * ?");
+            String[] fields = smeared.split(" ");
+            int offset = Integer.parseInt(fields[1]) * 60 + Integer.parseInt(fields[0]) - (45 * 60 + 30);
+            assertTrue(offset >= 0 && offset < 15 * 60 - 30, smeared);
+            assertEquals("9", fields[2]);
+            assertTrue(CronExpression.isValidExpression(smeared));
+        }
+    }
+
+    @Test
+    void smeared_everyMinute_staysInsideTheMinute() throws Exception {
+        CronSmearing smearing = cronSmearing(true, 3600);
+        String smeared = smearing.smeared(1L, "0 0/5 * * * ?");
+
+        String[] fields = smeared.split(" ");
+        assertEquals("0/5", fields[1]);
+        assertTrue(Integer.parseInt(fields[0]) < 60);
+        // still fires every five minutes
+        CronExpression cron = new CronExpression(smeared);
+        Date first = cron.getNextValidTimeAfter(new Date());
+        assertEquals(5 * 60_000L, cron.getNextValidTimeAfter(first).getTime() - first.getTime());
+    }
+
+    @Test
+    void smeared_leavesNonLiteralSecondsAlone() {
+        CronSmearing smearing = cronSmearing(true, 60);
+
+        assertEquals("0/10 * * * * ?", smearing.smeared(3L, "0/10 * * * * ?"));
+        assertEquals("* * * * * ?", smearing.smeared(3L, "* * * * * ?"));
+        assertEquals("59 * * * * ?", smearing.smeared(3L, "59 * * * * ?"));
+    }
+}
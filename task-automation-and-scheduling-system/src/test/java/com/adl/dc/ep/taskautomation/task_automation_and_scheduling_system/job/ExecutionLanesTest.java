@@ -0,0 +1,108 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExecutionLaneFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionLanesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockEnvironment environment;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // occupies the lane's only slot until the test ends
+    private void holdSlot(ExecutionLanes lanes, TaskType type) throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        executor.submit(() -> lanes.run(type, () -> {
+            running.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+    }
+
+    private double lane(String meter, TaskType type) {
+        return meterRegistry.get(meter).tag("lane", type.name()).gauge().value();
+    }
+
+    @Test
+    void run_returnsResult_andFreesTheSlot() {
+        ExecutionLanes lanes = new ExecutionLanes(environment, meterRegistry);
+
+        assertEquals("done", lanes.run(TaskType.EMAIL, () -> "done"));
+
+        assertEquals(0.0, lane("task.lane.active", TaskType.EMAIL));
+        assertEquals(1, meterRegistry.get("task.lane.wait").tag("lane", "EMAIL").timer().count());
+    }
+
+    @Test
+    void run_fullLane_failsFast_withoutAffectingOtherLanes() throws Exception {
+        environment.setProperty("execution-lanes.http-request.max-concurrent", "1");
+        environment.setProperty("execution-lanes.http-request.max-queued", "0");
+        ExecutionLanes lanes = new ExecutionLanes(environment, meterRegistry);
+        holdSlot(lanes, TaskType.HTTP_REQUEST);
+
+        assertThrows(ExecutionLaneFullException.class, () -> lanes.run(TaskType.HTTP_REQUEST, () -> "late"));
+
+        assertEquals("sent", lanes.run(TaskType.EMAIL, () -> "sent"));
+        assertEquals(1.0, lane("task.lane.active", TaskType.HTTP_REQUEST));
+        assertEquals(1.0, meterRegistry.get("task.lane.rejected")
+                .tags("lane", "HTTP_REQUEST", "reason", "full").counter().count());
+    }
+
+    @Test
+    void run_noSlotWithinMaxWait_timesOut() throws Exception {
+        environment.setProperty("execution-lanes.weather.max-concurrent", "1");
+        environment.setProperty("execution-lanes.weather.max-queued", "1");
+        environment.setProperty("execution-lanes.weather.max-wait-ms", "50");
+        ExecutionLanes lanes = new ExecutionLanes(environment, meterRegistry);
+        holdSlot(lanes, TaskType.WEATHER);
+
+        ExecutionLaneFullException ex = assertThrows(ExecutionLaneFullException.class,
+                () -> lanes.run(TaskType.WEATHER, () -> "late"));
+
+        assertTrue(ex.getMessage().contains("within 50 ms"));
+        assertEquals(0.0, lane("task.lane.queued", TaskType.WEATHER));
+        assertEquals(1.0, meterRegistry.get("task.lane.rejected")
+                .tags("lane", "WEATHER", "reason", "timeout").counter().count());
+    }
+
+    @Test
+    void lanes_withoutOwnSettings_useDefaults() {
+        environment.setProperty("execution-lanes.default.max-concurrent", "3");
+        environment.setProperty("execution-lanes.email.max-concurrent", "7");
+
+        new ExecutionLanes(environment, meterRegistry);
+
+        assertEquals(3.0, lane("task.lane.max", TaskType.DATA_SYNC));
+        assertEquals(7.0, lane("task.lane.max", TaskType.EMAIL));
+    }
+}
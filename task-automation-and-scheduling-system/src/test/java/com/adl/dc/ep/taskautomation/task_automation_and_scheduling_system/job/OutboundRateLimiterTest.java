@@ -0,0 +1,144 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboundRateLimiterTest {
+
+    private static final String URL = "https://internal.example.com/api/health";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // same rate and burst for hosts and users
+    static OutboundRateLimiter rateLimiter(MeterRegistry meterRegistry, double permitsPerSecond, int burst) {
+        OutboundRateLimiter limiter = new OutboundRateLimiter(meterRegistry);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "hostPermitsPerSecond", permitsPerSecond);
+        ReflectionTestUtils.setField(limiter, "hostBurst", burst);
+        ReflectionTestUtils.setField(limiter, "hostOverrides", new String[0]);
+        ReflectionTestUtils.setField(limiter, "userPermitsPerSecond", permitsPerSecond);
+        ReflectionTestUtils.setField(limiter, "userBurst", burst);
+        ReflectionTestUtils.setField(limiter, "maxDeferMs", 300_000L);
+        ReflectionTestUtils.setField(limiter, "maxBuckets", 100);
+        ReflectionTestUtils.setField(limiter, "nodes", 1);
+        ReflectionTestUtils.setField(limiter, "weatherBaseUrl", "https://api.openweathermap.org/data/2.5/weather");
+        limiter.init();
+        return limiter;
+    }
+
+    @Test
+    void reserve_withinBurst_runsNow() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+        }
+        assertEquals(0.0, meterRegistry.get("task.rate.deferred").tag("scope", "host").counter().count());
+    }
+
+    @Test
+    void reserve_burstSpent_defersEachFiringToItsOwnLaterSlot() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 10.0, 1);
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+
+        long first = limiter.reserve(TaskType.HTTP_REQUEST, URL, 2L);
+        long second = limiter.reserve(TaskType.HTTP_REQUEST, URL, 3L);
+
+        assertTrue(first > 0 && first <= 100, "first deferral " + first);
+        assertTrue(second > first + 50, "second deferral " + second);
+        assertEquals(2.0, meterRegistry.get("task.rate.deferred").tag("scope", "host").counter().count());
+    }
+
+    @Test
+    void reserve_limitsEachUserAcrossHosts() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 1);
+        ReflectionTestUtils.setField(limiter, "hostPermitsPerSecond", 0.0);
+        limiter.init();
+
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, "https://a.example.com", 1L));
+        assertTrue(limiter.reserve(TaskType.HTTP_REQUEST, "https://b.example.com", 1L) > 0);
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, "https://b.example.com", 2L));
+        assertEquals(1.0, meterRegistry.get("task.rate.deferred").tag("scope", "user").counter().count());
+    }
+
+    @Test
+    void reserve_weatherTasks_shareTheWeatherApiBucket() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 1);
+
+        assertEquals(0, limiter.reserve(TaskType.WEATHER, "Colombo", 1L));
+        assertTrue(limiter.reserve(TaskType.WEATHER, "Kandy", 2L) > 0);
+    }
+
+    @Test
+    void reserve_hostOverride_appliesToThatHostOnly() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 100.0, 100);
+        ReflectionTestUtils.setField(limiter, "hostOverrides", new String[]{"Internal.example.com=1:1"});
+        limiter.init();
+
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+        assertTrue(limiter.reserve(TaskType.HTTP_REQUEST, URL, 2L) > 0);
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, "https://other.example.com", 3L));
+    }
+
+    @Test
+    void reserve_slotTooFarAway_throwsAndGivesTheSlotBack() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 1);
+        ReflectionTestUtils.setField(limiter, "maxDeferMs", 500L);
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.reserve(TaskType.HTTP_REQUEST, URL, 2L));
+        // the refunded slot is still about a second away, not two
+        assertThrows(RateLimitExceededException.class, () -> limiter.reserve(TaskType.HTTP_REQUEST, URL, 3L));
+        ReflectionTestUtils.setField(limiter, "maxDeferMs", 300_000L);
+        assertTrue(limiter.reserve(TaskType.HTTP_REQUEST, URL, 4L) <= 1000);
+        assertEquals(2.0, meterRegistry.get("task.rate.rejected").counter().count());
+    }
+
+    @Test
+    void reserve_inACluster_enforcesThisNodesShareOfTheQuota() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 10.0, 4);
+        ReflectionTestUtils.setField(limiter, "nodes", 2);
+        ReflectionTestUtils.setField(limiter, "userPermitsPerSecond", 0.0);
+        limiter.init();
+
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+        // half the burst, then slots 1/5 s apart instead of 1/10 s
+        long wait = limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L);
+        assertTrue(wait > 150 && wait <= 200, "deferral " + wait);
+    }
+
+    @Test
+    void reserve_atMaxBuckets_keepsBucketsInDebt() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 1);
+        ReflectionTestUtils.setField(limiter, "maxBuckets", 1);
+        ReflectionTestUtils.setField(limiter, "userPermitsPerSecond", 0.0);
+        limiter.init();
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+
+        // a new host must not push out the bucket that just handed out its only token
+        assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, "https://other.example.com", 1L));
+        assertTrue(limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L) > 0);
+        assertEquals(2.0, meterRegistry.get("task.rate.buckets").gauge().value());
+    }
+
+    @Test
+    void reserve_unlimitedTypesAndDisabledLimiter_runNow() {
+        OutboundRateLimiter limiter = rateLimiter(meterRegistry, 1.0, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.reserve(TaskType.EMAIL, null, 1L));
+            assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, "not a url", 1L));
+        }
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.reserve(TaskType.HTTP_REQUEST, URL, 1L));
+        }
+    }
+}
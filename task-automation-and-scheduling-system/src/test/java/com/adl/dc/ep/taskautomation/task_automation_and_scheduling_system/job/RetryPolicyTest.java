@@ -0,0 +1,74 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExecutionLaneFullException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.InvalidTaskPayloadException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    static RetryPolicy retryPolicy(int defaultMaxAttempts) {
+        RetryPolicy policy = new RetryPolicy();
+        ReflectionTestUtils.setField(policy, "defaultMaxAttempts", defaultMaxAttempts);
+        ReflectionTestUtils.setField(policy, "defaultBackoffMs", 30_000L);
+        ReflectionTestUtils.setField(policy, "maxBackoffMs", 3_600_000L);
+        ReflectionTestUtils.setField(policy, "retryableExceptions",
+                new Class<?>[]{ExternalServiceException.class, ExecutionLaneFullException.class});
+        return policy;
+    }
+
+    private static Task task(Integer maxAttempts, Long backoffMs) {
+        Task task = new Task();
+        task.setMaxAttempts(maxAttempts);
+        task.setRetryBackoffMs(backoffMs);
+        return task;
+    }
+
+    @Test
+    void shouldRetry_onlyRetryableFailures_untilMaxAttempts() {
+        RetryPolicy policy = retryPolicy(1);
+        Task task = task(3, null);
+        ExternalServiceException transientFailure = new ExternalServiceException("503");
+
+        assertTrue(policy.shouldRetry(task, 1, transientFailure));
+        assertTrue(policy.shouldRetry(task, 2, new ExecutionLaneFullException("full")));
+        assertFalse(policy.shouldRetry(task, 3, transientFailure));
+        assertFalse(policy.shouldRetry(task, 1, new InvalidTaskPayloadException("no url")));
+    }
+
+    @Test
+    void shouldRetry_taskWithoutPolicy_usesDefault() {
+        ExternalServiceException failure = new ExternalServiceException("503");
+
+        assertFalse(retryPolicy(1).shouldRetry(task(null, null), 1, failure));
+        assertTrue(retryPolicy(2).shouldRetry(task(null, null), 1, failure));
+    }
+
+    @Test
+    void backoffMs_doublesPerAttempt_withHalfJittered() {
+        RetryPolicy policy = retryPolicy(1);
+        Task task = task(5, 10_000L);
+
+        for (int i = 0; i < 100; i++) {
+            long first = policy.backoffMs(task, 2);
+            long third = policy.backoffMs(task, 4);
+            assertTrue(first >= 5_000 && first <= 10_000, "first retry " + first);
+            assertTrue(third >= 20_000 && third <= 40_000, "third retry " + third);
+        }
+    }
+
+    @Test
+    void backoffMs_isCapped() {
+        RetryPolicy policy = retryPolicy(1);
+        ReflectionTestUtils.setField(policy, "maxBackoffMs", 60_000L);
+
+        long delay = policy.backoffMs(task(10, 30_000L), 10);
+
+        assertTrue(delay >= 30_000 && delay <= 60_000, "delay " + delay);
+        assertTrue(policy.backoffMs(task(10, Long.MAX_VALUE / 2), 40) <= 60_000);
+    }
+}
@@ -2,25 +2,37 @@ package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.EmailService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionEventService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExecutionJournalService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.WeatherService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.MockedConstruction;
 import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
-import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
-
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,24 +43,24 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TaskExecutionJobTest {
 
-    @Mock private TaskRepository taskRepository;
-    @Mock private TaskExecutionRepository executionRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private TaskCacheService taskCache;
+    @Mock private ExecutionJournalService executionJournal;
     @Mock private EmailService emailService;
+    @Mock private HttpService httpService;
+    @Mock private WeatherService weatherService;
+    @Mock private ExecutionEventService executionEvents;
     @Mock private JobExecutionContext context;
 
     @Captor private ArgumentCaptor<TaskExecution> executionCaptor;
-    @Captor private ArgumentCaptor<Task> taskCaptor;
-
-    private TaskExecutionJob newJob() {
-        TaskExecutionJob job = new TaskExecutionJob(taskRepository, executionRepository, userRepository, emailService);
 
-        // Inject @Value fields for tests
-        ReflectionTestUtils.setField(job, "weatherApiKey", "test-api-key");
-        ReflectionTestUtils.setField(job, "weatherBaseUrl", "https://api.openweathermap.org/data/2.5/weather");
-        ReflectionTestUtils.setField(job, "weatherUnits", "metric");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryPolicy retryPolicy = RetryPolicyTest.retryPolicy(1);
+    private OutboundRateLimiter rateLimiter = new OutboundRateLimiter(meterRegistry);
 
-        return job;
+    private TaskExecutionJob newJob() {
+        return new TaskExecutionJob(taskCache, executionJournal, emailService, httpService, weatherService,
+                executionEvents, new ExecutionLanes(new MockEnvironment(), meterRegistry), retryPolicy, rateLimiter,
+                new TaskExecutionMetrics(meterRegistry));
     }
 
     private static Task task(long id, TaskType type, String payload) {
@@ -67,7 +79,7 @@ class TaskExecutionJobTest {
         JobExecutionException ex = assertThrows(JobExecutionException.class, () -> newJob().execute(context));
         assertTrue(ex.getMessage().contains("taskId is missing"));
 
-        verifyNoInteractions(executionRepository, taskRepository, userRepository, emailService);
+        verifyNoInteractions(executionJournal, taskCache, emailService);
     }
 
     @Test
@@ -79,7 +91,7 @@ class TaskExecutionJobTest {
         JobExecutionException ex = assertThrows(JobExecutionException.class, () -> newJob().execute(context));
         assertTrue(ex.getMessage().contains("Invalid taskId"));
 
-        verifyNoInteractions(executionRepository, taskRepository, userRepository, emailService);
+        verifyNoInteractions(executionJournal, taskCache, emailService);
     }
 
     @Test
@@ -88,16 +100,14 @@ class TaskExecutionJobTest {
         JobDataMap map = new JobDataMap();
         map.put("taskId", String.valueOf(taskId));
         when(context.getMergedJobDataMap()).thenReturn(map);
-        when(executionRepository.save(any(TaskExecution.class))).thenAnswer(inv -> inv.getArgument(0));
         Task t = task(taskId, TaskType.EMAIL, "ignored");
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(t));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
         newJob().execute(context);
         verify(emailService, times(1)).sendTaskNotification(any(Task.class));
-        verify(taskRepository).save(taskCaptor.capture());
-        assertNotNull(taskCaptor.getValue().getLastExecutedAt());
-        verify(executionRepository, times(2)).save(executionCaptor.capture());
-        TaskExecution finalSave = executionCaptor.getAllValues().get(1);
+        verify(executionJournal).recordTaskExecuted(eq(taskId), any(LocalDateTime.class));
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
         assertEquals(taskId, finalSave.getTaskId());
         assertEquals(ExecutionStatus.SUCCESS, finalSave.getStatus());
         assertNotNull(finalSave.getEndTime());
@@ -112,23 +122,21 @@ class TaskExecutionJobTest {
         map.put("taskId", String.valueOf(taskId));
         when(context.getMergedJobDataMap()).thenReturn(map);
 
-        when(executionRepository.save(any(TaskExecution.class))).thenAnswer(inv -> inv.getArgument(0));
-
         Task t = task(taskId, TaskType.DATA_SYNC, null);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(t));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
 
         newJob().execute(context);
 
         verifyNoInteractions(emailService);
 
-        verify(executionRepository, times(2)).save(executionCaptor.capture());
-        TaskExecution finalSave = executionCaptor.getAllValues().get(1);
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
 
         assertEquals(ExecutionStatus.SUCCESS, finalSave.getStatus());
         assertEquals(taskId + "Data synced successfully", finalSave.getResult());
 
-        verify(taskRepository).save(any(Task.class));
+        verify(executionJournal).recordTaskExecuted(eq(taskId), any(LocalDateTime.class));
     }
 
     @Test
@@ -138,18 +146,17 @@ class TaskExecutionJobTest {
         map.put("taskId", String.valueOf(taskId));
         when(context.getMergedJobDataMap()).thenReturn(map);
 
-        when(executionRepository.save(any(TaskExecution.class))).thenAnswer(inv -> inv.getArgument(0));
-
         Task t = task(taskId, TaskType.HTTP_REQUEST, null);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(t));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
 
         newJob().execute(context);
 
         // Should NOT update task lastExecutedAt on failure
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(executionJournal, never()).recordTaskExecuted(anyLong(), any());
 
-        verify(executionRepository, times(2)).save(executionCaptor.capture());
-        TaskExecution finalSave = executionCaptor.getAllValues().get(1);
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
 
         assertEquals(ExecutionStatus.FAILED, finalSave.getStatus());
         assertNotNull(finalSave.getEndTime());
@@ -157,6 +164,70 @@ class TaskExecutionJobTest {
         assertFalse(finalSave.getErrorMessage().toLowerCase().contains("url is required"));
     }
 
+    @Test
+    void execute_whenHttpRequestTask_shouldUseSharedHttpService_andMarkSuccess() throws Exception {
+        long taskId = 31L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+
+        Task t = task(taskId, TaskType.HTTP_REQUEST, "https://example.com/health");
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com/health")).thenReturn("OK");
+
+        newJob().execute(context);
+
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
+        assertEquals(ExecutionStatus.SUCCESS, finalSave.getStatus());
+        assertEquals("HTTP request completed: OK", finalSave.getResult());
+    }
+
+    @Test
+    void execute_whenHttpRequestTask_andUpstreamFails_shouldMarkFailed() throws Exception {
+        long taskId = 32L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+
+        Task t = task(taskId, TaskType.HTTP_REQUEST, "https://example.com/down");
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com/down"))
+                .thenThrow(new ExternalServiceException("GET https://example.com/down returned HTTP 503"));
+
+        newJob().execute(context);
+
+        verify(executionJournal, never()).recordTaskExecuted(anyLong(), any());
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
+        assertEquals(ExecutionStatus.FAILED, finalSave.getStatus());
+        assertTrue(finalSave.getErrorMessage().contains("HTTP 503"));
+    }
+
+    @Test
+    void execute_whenHostCircuitOpen_shouldMarkCircuitOpen() throws Exception {
+        long taskId = 33L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+
+        Task t = task(taskId, TaskType.HTTP_REQUEST, "https://example.com/down");
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com/down"))
+                .thenThrow(new CircuitOpenException("Circuit breaker open for example.com"));
+
+        newJob().execute(context);
+
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
+        assertEquals(ExecutionStatus.CIRCUIT_OPEN, finalSave.getStatus());
+        assertEquals("Circuit breaker open for example.com", finalSave.getErrorMessage());
+        assertEquals(1, meterRegistry.get("task.execution")
+                .tags("taskType", "HTTP_REQUEST", "status", "CIRCUIT_OPEN").timer().count());
+    }
+
 
 
 
@@ -167,21 +238,21 @@ class TaskExecutionJobTest {
         map.put("taskId", String.valueOf(taskId));
         when(context.getMergedJobDataMap()).thenReturn(map);
 
-        when(executionRepository.save(any(TaskExecution.class))).thenAnswer(inv -> inv.getArgument(0));
-
         Task t = task(taskId, TaskType.WEATHER, "   "); // blank location
         t.setUserId(99L);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(t));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
 
         newJob().execute(context);
 
-        verify(executionRepository, times(2)).save(executionCaptor.capture());
-        TaskExecution finalSave = executionCaptor.getAllValues().get(1);
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
 
         assertEquals(ExecutionStatus.FAILED, finalSave.getStatus());
         assertTrue(finalSave.getErrorMessage().toLowerCase().contains("location is required"));
 
-        verifyNoInteractions(userRepository);
+        verify(taskCache, never()).getUserEmail(anyLong());
+        verifyNoInteractions(weatherService);
         verify(emailService, never()).sendSimpleEmail(anyString(), anyString(), anyString());
     }
 
@@ -195,18 +266,12 @@ class TaskExecutionJobTest {
         map.put("taskId", String.valueOf(taskId));
         when(context.getMergedJobDataMap()).thenReturn(map);
 
-        when(executionRepository.save(any(TaskExecution.class))).thenAnswer(inv -> inv.getArgument(0));
-
         Task t = task(taskId, TaskType.WEATHER, location);
         t.setUserId(userId);
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(t));
-        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
 
-        User u = new User();
-        u.setId(userId);
-        u.setEmail("user@test.com");
-        when(userRepository.findById(userId)).thenReturn(Optional.of(u));
+        when(taskCache.getUserEmail(userId)).thenReturn(Optional.of("user@test.com"));
 
         // Mock OpenWeather DTO
         OpenWeatherResponseDto.Main main = mock(OpenWeatherResponseDto.Main.class);
@@ -219,13 +284,9 @@ class TaskExecutionJobTest {
         when(dto.getMain()).thenReturn(main);
         when(dto.getWeather()).thenReturn(List.of(w0));
 
-        // Intercept new RestTemplate() inside production code
-        try (MockedConstruction<RestTemplate> mocked = Mockito.mockConstruction(
-                RestTemplate.class,
-                (mock, ctx) -> when(mock.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenReturn(dto)
-        )) {
-            newJob().execute(context);
-        }
+        when(weatherService.getCurrentWeather(location)).thenReturn(dto);
+
+        newJob().execute(context);
 
         verify(emailService, times(1)).sendSimpleEmail(
                 eq("user@test.com"),
@@ -233,13 +294,246 @@ class TaskExecutionJobTest {
                 contains("Temperature:")
         );
 
-        verify(executionRepository, times(2)).save(executionCaptor.capture());
-        TaskExecution finalSave = executionCaptor.getAllValues().get(1);
+        verify(executionJournal).recordStarted(any(TaskExecution.class));
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        TaskExecution finalSave = executionCaptor.getValue();
         assertEquals(ExecutionStatus.SUCCESS, finalSave.getStatus());
         assertNotNull(finalSave.getResult());
         assertTrue(finalSave.getResult().contains("Weather email sent"));
 
-        verify(taskRepository).save(taskCaptor.capture());
-        assertNotNull(taskCaptor.getValue().getLastExecutedAt());
+        verify(executionJournal).recordTaskExecuted(eq(taskId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void execute_whenCachedTaskIsStale_shouldEvictAndReload() throws Exception {
+        long taskId = 70L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        map.put("taskType", TaskType.DATA_SYNC.name());
+        map.put("actionPayload", "");
+        map.put("userId", "7");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+
+        Task stale = task(taskId, TaskType.EMAIL, "old");
+        stale.setUserId(7L);
+        Task current = task(taskId, TaskType.DATA_SYNC, null);
+        current.setUserId(7L);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(stale), Optional.of(current));
+
+        newJob().execute(context);
+
+        verify(taskCache).evict(taskId);
+        verifyNoInteractions(emailService);
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        assertEquals(taskId + "Data synced successfully", executionCaptor.getValue().getResult());
+    }
+
+    @Test
+    void execute_whenCachedTaskMatchesJobData_shouldNotReload() throws Exception {
+        long taskId = 71L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        map.put("taskType", TaskType.DATA_SYNC.name());
+        map.put("actionPayload", "");
+        map.put("userId", "7");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+
+        Task cached = task(taskId, TaskType.DATA_SYNC, null);
+        cached.setUserId(7L);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(cached));
+
+        newJob().execute(context);
+
+        verify(taskCache, times(1)).getTask(taskId);
+        verify(taskCache, never()).evict(anyLong());
+    }
+
+    @Test
+    void execute_shouldPublishRunningThenFinalState_toTaskOwner() throws Exception {
+        long taskId = 80L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        map.put("userId", "7");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        when(context.getFireInstanceId()).thenReturn("fire-80");
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(task(taskId, TaskType.DATA_SYNC, null)));
+
+        List<ExecutionStatus> published = new ArrayList<>();
+        doAnswer(inv -> published.add(inv.<TaskExecution>getArgument(2).getStatus()))
+                .when(executionEvents).publish(eq(7L), anyString(), any(TaskExecution.class));
+
+        newJob().execute(context);
+
+        assertEquals(List.of(ExecutionStatus.RUNNING, ExecutionStatus.SUCCESS), published);
+        // both events carry the same key, so a client can pair them before the execution has an id
+        verify(executionEvents, times(2)).publish(eq(7L), eq("fire-80"), any(TaskExecution.class));
+    }
+
+    @Test
+    void execute_shouldTimeExecution_byTaskTypeAndStatus_andRecordFireLag() throws Exception {
+        long taskId = 90L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        when(context.getScheduledFireTime()).thenReturn(new Date(1_000_000L));
+        when(context.getFireTime()).thenReturn(new Date(1_000_250L));
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(task(taskId, TaskType.DATA_SYNC, null)));
+
+        newJob().execute(context);
+
+        Timer success = meterRegistry.get("task.execution")
+                .tags("taskType", "DATA_SYNC", "status", "SUCCESS").timer();
+        assertEquals(1, success.count());
+        assertEquals(0, meterRegistry.get("task.execution")
+                .tags("taskType", "DATA_SYNC", "status", "FAILED").timer().count());
+        Timer fireLag = meterRegistry.get("task.fire.lag").tags("taskType", "UNKNOWN").timer();
+        assertEquals(1, fireLag.count());
+        assertEquals(250.0, fireLag.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void execute_whenTaskMissing_shouldCountFailure_underJobDataTaskType() throws Exception {
+        long taskId = 91L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        map.put("taskType", TaskType.WEATHER.name());
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.empty());
+
+        newJob().execute(context);
+
+        assertEquals(1, meterRegistry.get("task.execution")
+                .tags("taskType", "WEATHER", "status", "FAILED").timer().count());
+        assertEquals(0, meterRegistry.get("task.fire.lag").tags("taskType", "WEATHER").timer().count());
+    }
+
+    @Test
+    void execute_retryableFailure_schedulesOneShotTriggerForNextAttempt() throws Exception {
+        long taskId = 95L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        Task t = task(taskId, TaskType.HTTP_REQUEST, "https://example.com");
+        t.setMaxAttempts(3);
+        t.setRetryBackoffMs(10_000L);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com")).thenThrow(new RuntimeException("503"));
+        JobDetail jobDetail = mock(JobDetail.class);
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("95", "user-tasks"));
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        Scheduler scheduler = mock(Scheduler.class);
+        when(context.getScheduler()).thenReturn(scheduler);
+        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+
+        long before = System.currentTimeMillis();
+        newJob().execute(context);
+
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        assertEquals(ExecutionStatus.FAILED, executionCaptor.getValue().getStatus());
+        assertEquals(1, executionCaptor.getValue().getAttempt());
+
+        verify(scheduler).scheduleJob(triggerCaptor.capture());
+        Trigger retry = triggerCaptor.getValue();
+        assertInstanceOf(SimpleTrigger.class, retry);
+        assertEquals(JobKey.jobKey("95", "user-tasks"), retry.getJobKey());
+        assertEquals("95-attempt-2", retry.getKey().getName());
+        assertEquals("2", retry.getJobDataMap().getString("attempt"));
+        long delay = retry.getStartTime().getTime() - before;
+        assertTrue(delay >= 5_000 && delay <= 10_000 + 1_000, "delay " + delay);
+    }
+
+    @Test
+    void execute_lastAttemptFails_doesNotRetry_andRecordsAttemptNumber() throws Exception {
+        long taskId = 96L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        map.put("attempt", "3");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        Task t = task(taskId, TaskType.HTTP_REQUEST, "https://example.com");
+        t.setMaxAttempts(3);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com")).thenThrow(new RuntimeException("503"));
+
+        newJob().execute(context);
+
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        assertEquals(3, executionCaptor.getValue().getAttempt());
+        verify(context, never()).getScheduler();
+    }
+
+    @Test
+    void execute_nonRetryableFailure_doesNotRetry() throws Exception {
+        long taskId = 97L;
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", String.valueOf(taskId));
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        Task t = task(taskId, TaskType.HTTP_REQUEST, " ");
+        t.setMaxAttempts(3);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(t));
+
+        newJob().execute(context);
+
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        assertEquals(ExecutionStatus.FAILED, executionCaptor.getValue().getStatus());
+        verify(context, never()).getScheduler();
+    }
+
+    @Test
+    void execute_rateLimited_defersFiringWithoutJournaling() throws Exception {
+        rateLimiter = OutboundRateLimiterTest.rateLimiter(meterRegistry, 1.0, 1);
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", "98");
+        map.put("taskType", "HTTP_REQUEST");
+        map.put("actionPayload", "https://example.com/health");
+        map.put("userId", "7");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        Task t = task(98L, TaskType.HTTP_REQUEST, "https://example.com/health");
+        t.setUserId(7L);
+        when(taskCache.getTask(98L)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com/health")).thenReturn("ok");
+        JobDetail jobDetail = mock(JobDetail.class);
+        when(jobDetail.getKey()).thenReturn(JobKey.jobKey("98", "user-tasks"));
+        when(context.getJobDetail()).thenReturn(jobDetail);
+        Scheduler scheduler = mock(Scheduler.class);
+        when(context.getScheduler()).thenReturn(scheduler);
+        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        TaskExecutionJob job = newJob();
+
+        job.execute(context);
+        long before = System.currentTimeMillis();
+        job.execute(context);
+
+        verify(httpService, times(1)).getForString("https://example.com/health");
+        verify(executionJournal, times(1)).recordStarted(any(TaskExecution.class));
+        verify(scheduler).scheduleJob(triggerCaptor.capture());
+        Trigger deferred = triggerCaptor.getValue();
+        assertEquals(JobKey.jobKey("98", "user-tasks"), deferred.getJobKey());
+        assertEquals("deferred-triggers", deferred.getKey().getGroup());
+        assertEquals("1", deferred.getJobDataMap().getString("attempt"));
+        assertTrue(deferred.getJobDataMap().containsKey("rateSlotReserved"));
+        assertTrue(deferred.getStartTime().getTime() >= before + 500);
+    }
+
+    @Test
+    void execute_deferredFiring_runsWithoutTakingAnotherSlot() throws Exception {
+        rateLimiter = OutboundRateLimiterTest.rateLimiter(meterRegistry, 1.0, 1);
+        rateLimiter.reserve(TaskType.HTTP_REQUEST, "https://example.com/health", 7L);
+        JobDataMap map = new JobDataMap();
+        map.put("taskId", "99");
+        map.put("taskType", "HTTP_REQUEST");
+        map.put("actionPayload", "https://example.com/health");
+        map.put("userId", "7");
+        map.put("rateSlotReserved", "true");
+        when(context.getMergedJobDataMap()).thenReturn(map);
+        Task t = task(99L, TaskType.HTTP_REQUEST, "https://example.com/health");
+        t.setUserId(7L);
+        when(taskCache.getTask(99L)).thenReturn(Optional.of(t));
+        when(httpService.getForString("https://example.com/health")).thenReturn("ok");
+
+        newJob().execute(context);
+
+        verify(executionJournal).recordFinished(executionCaptor.capture());
+        assertEquals(ExecutionStatus.SUCCESS, executionCaptor.getValue().getStatus());
+        verify(context, never()).getScheduler();
     }
 }
@@ -0,0 +1,124 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock private UserDetailsService userDetailsService;
+    @Mock private UserPrincipalCache userPrincipalCache;
+    @Mock private FilterChain filterChain;
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                Base64.getEncoder().encodeToString("test-signing-key-that-is-at-least-32-bytes".getBytes()));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        jwtService.init();
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+        ReflectionTestUtils.setField(verifiedTokenCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxEntries", 100);
+
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, userPrincipalCache, verifiedTokenCache);
+        alice = new User(1L, "alice", "alice@test.com", "pw", Role.ADMIN, true, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    void statelessPrincipal_authenticatesFromClaimsWithoutLoadingUser() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        when(userPrincipalCache.isEnabled(1L)).thenReturn(true);
+
+        filter.doFilter(request(jwtService.generateToken(alice)), new MockHttpServletResponse(), filterChain);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        User principal = (User) auth.getPrincipal();
+        assertEquals(1L, principal.getId());
+        assertEquals("alice", principal.getUsername());
+        assertEquals("ADMIN", auth.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void statelessPrincipal_revokedUser_isNotAuthenticated() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        when(userPrincipalCache.isEnabled(1L)).thenReturn(false);
+
+        filter.doFilter(request(jwtService.generateToken(alice)), new MockHttpServletResponse(), filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void statelessPrincipal_tokenWithoutPrincipalClaims_fallsBackToDatabase() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        String legacyToken = jwtService.generateToken(new HashMap<>(), alice);
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(alice);
+
+        filter.doFilter(request(legacyToken), new MockHttpServletResponse(), filterChain);
+
+        assertSame(alice, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verifyNoInteractions(userPrincipalCache);
+    }
+
+    @Test
+    void defaultMode_loadsUserPerRequest() throws Exception {
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(alice);
+
+        filter.doFilter(request(jwtService.generateToken(alice)), new MockHttpServletResponse(), filterChain);
+
+        assertSame(alice, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verifyNoInteractions(userPrincipalCache);
+    }
+
+    @Test
+    void noBearerHeader_passesThrough() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(any(), any());
+        verifyNoInteractions(userDetailsService, userPrincipalCache);
+    }
+}
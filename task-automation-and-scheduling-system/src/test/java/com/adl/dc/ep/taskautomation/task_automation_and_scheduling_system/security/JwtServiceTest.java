@@ -0,0 +1,113 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("test-signing-key-that-is-at-least-32-bytes".getBytes());
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newJwtService(SECRET, 60_000L);
+        user = new User(1L, "alice", "alice@test.com", "pw", Role.USER, true, null, null);
+    }
+
+    private static JwtService newJwtService(String secret, long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", secret);
+        ReflectionTestUtils.setField(service, "jwtExpiration", expiration);
+        service.init();
+        return service;
+    }
+
+    @Test
+    void extractValidClaims_returnsSubject() {
+        String token = jwtService.generateToken(user);
+
+        Claims claims = jwtService.extractValidClaims(token);
+
+        assertEquals("alice", claims.getSubject());
+        assertTrue(jwtService.isTokenValid(claims, user));
+        assertTrue(jwtService.isTokenValid(token, user));
+        assertEquals("alice", jwtService.extractUsername(token));
+    }
+
+    @Test
+    void isTokenValid_otherUser_isFalse() {
+        Claims claims = jwtService.extractValidClaims(jwtService.generateToken(user));
+        User bob = new User(2L, "bob", "bob@test.com", "pw", Role.USER, true, null, null);
+
+        assertFalse(jwtService.isTokenValid(claims, bob));
+    }
+
+    @Test
+    void extractValidClaims_tamperedToken_throws() {
+        String token = jwtService.generateToken(user);
+        int signature = token.lastIndexOf('.') + 1;
+        char flipped = token.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signature) + flipped + token.substring(signature + 1);
+
+        assertThrows(JwtException.class, () -> jwtService.extractValidClaims(tampered));
+    }
+
+    @Test
+    void extractValidClaims_tokenFromOtherKey_throws() {
+        JwtService other = newJwtService(
+                Base64.getEncoder().encodeToString("another-signing-key-at-least-32-bytes!!".getBytes()), 60_000L);
+
+        String foreign = other.generateToken(user);
+
+        assertThrows(JwtException.class, () -> jwtService.extractValidClaims(foreign));
+    }
+
+    @Test
+    void extractValidClaims_expiredToken_throws() {
+        String expired = newJwtService(SECRET, -1_000L).generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractValidClaims(expired));
+    }
+
+    @Test
+    void init_stripsSecretPrefix() {
+        JwtService prefixed = newJwtService("JWT_SECRET: " + SECRET, 60_000L);
+
+        assertEquals("alice", jwtService.extractValidClaims(prefixed.generateToken(user)).getSubject());
+    }
+
+    @Test
+    void extractPrincipal_readsPrincipalClaims() {
+        User admin = new User(9L, "root", "root@test.com", "pw", Role.ADMIN, true, null, null);
+
+        User principal = jwtService.extractPrincipal(jwtService.extractValidClaims(jwtService.generateToken(admin)));
+
+        assertNotNull(principal);
+        assertEquals(9L, principal.getId());
+        assertEquals("root", principal.getUsername());
+        assertEquals(Role.ADMIN, principal.getRole());
+        assertTrue(principal.isEnabled());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    void extractPrincipal_tokenWithoutPrincipalClaims_isNull() {
+        String token = jwtService.generateToken(new HashMap<>(), user);
+
+        assertNull(jwtService.extractPrincipal(jwtService.extractValidClaims(token)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserPrincipalCache(userRepository, meterRegistry);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    private static User user(long id, boolean enabled) {
+        User user = new User();
+        user.setId(id);
+        user.setEnabled(enabled);
+        return user;
+    }
+
+    @Test
+    void isEnabled_readsDatabaseOncePerTtl() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, true)));
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(cache.isEnabled(1L));
+        }
+
+        verify(userRepository, times(1)).findById(1L);
+        assertEquals(9.0, meterRegistry.get("user.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("user.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void isEnabled_disabledOrMissingUser_isFalse() {
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, false)));
+        when(userRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertFalse(cache.isEnabled(2L));
+        assertFalse(cache.isEnabled(3L));
+    }
+
+    @Test
+    void revoke_takesEffectWithoutWaitingForTtl() {
+        when(userRepository.findById(4L)).thenReturn(Optional.of(user(4L, true)));
+        assertTrue(cache.isEnabled(4L));
+
+        cache.revoke(4L);
+
+        assertFalse(cache.isEnabled(4L));
+        verify(userRepository, times(1)).findById(4L);
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user(5L, true)));
+        cache.revoke(5L);
+
+        cache.invalidate(5L);
+
+        assertTrue(cache.isEnabled(5L));
+    }
+
+    @Test
+    void isEnabled_afterTtl_reloads() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(userRepository.findById(6L)).thenReturn(Optional.of(user(6L, true)), Optional.of(user(6L, false)));
+
+        assertTrue(cache.isEnabled(6L));
+        assertFalse(cache.isEnabled(6L));
+    }
+
+    @Test
+    void isEnabled_staysWithinMaxEntries() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 3);
+        when(userRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(user(inv.getArgument(0), true)));
+
+        for (long id = 10; id < 20; id++) {
+            cache.isEnabled(id);
+        }
+
+        assertTrue(meterRegistry.get("user.cache.size").gauge().value() <= 3);
+    }
+}
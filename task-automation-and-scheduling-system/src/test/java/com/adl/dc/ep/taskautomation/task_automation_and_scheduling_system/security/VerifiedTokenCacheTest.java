@@ -0,0 +1,105 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.Role;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtService real = new JwtService();
+        ReflectionTestUtils.setField(real, "secretKey",
+                Base64.getEncoder().encodeToString("test-signing-key-that-is-at-least-32-bytes".getBytes()));
+        ReflectionTestUtils.setField(real, "jwtExpiration", 60_000L);
+        real.init();
+        jwtService = spy(real);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtService, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+
+        user = new User(1L, "alice", "alice@test.com", "pw", Role.USER, true, null, null);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("jwt.token.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void verify_sameToken_verifiesSignatureOnce() {
+        String token = jwtService.generateToken(user);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("alice", cache.verify(token).getSubject());
+        }
+
+        verify(jwtService, times(1)).extractValidClaims(token);
+        assertEquals(4.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void verify_invalidToken_isNeverCached() {
+        String token = jwtService.generateToken(user);
+        int signature = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, signature)
+                + (token.charAt(signature) == 'A' ? 'B' : 'A') + token.substring(signature + 1);
+
+        assertThrows(JwtException.class, () -> cache.verify(tampered));
+        assertThrows(JwtException.class, () -> cache.verify(tampered));
+
+        verify(jwtService, times(2)).extractValidClaims(tampered);
+        assertEquals(0.0, meterRegistry.get("jwt.token.cache.size").gauge().value());
+    }
+
+    @Test
+    void verify_afterTtl_verifiesAgain() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        String token = jwtService.generateToken(user);
+
+        cache.verify(token);
+        cache.verify(token);
+
+        verify(jwtService, times(2)).extractValidClaims(token);
+    }
+
+    @Test
+    void verify_disabled_alwaysVerifies() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        String token = jwtService.generateToken(user);
+
+        cache.verify(token);
+        cache.verify(token);
+
+        verify(jwtService, times(2)).extractValidClaims(token);
+    }
+
+    @Test
+    void verify_staysWithinMaxEntries() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 3);
+
+        for (int i = 0; i < 10; i++) {
+            User other = new User((long) i, "user" + i, null, "pw", Role.USER, true, null, null);
+            cache.verify(jwtService.generateToken(other));
+        }
+
+        assertTrue(meterRegistry.get("jwt.token.cache.size").gauge().value() <= 3);
+    }
+}
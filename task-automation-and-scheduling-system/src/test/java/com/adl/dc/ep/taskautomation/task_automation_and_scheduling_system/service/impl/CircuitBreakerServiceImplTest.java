@@ -0,0 +1,190 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CircuitBreakerStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.CircuitState;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerServiceImplTest {
+
+    private static final String HOST = "internal.example.com:8443";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerServiceImpl breakers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breakers = breakers(60_000L);
+    }
+
+    // window of 4, trips at 50% once 4 calls are recorded, 2 half-open probes
+    private CircuitBreakerServiceImpl breakers(long openDurationMs) {
+        CircuitBreakerServiceImpl service = new CircuitBreakerServiceImpl(meterRegistry);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "windowSize", 4);
+        ReflectionTestUtils.setField(service, "minimumCalls", 4);
+        ReflectionTestUtils.setField(service, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(service, "openDurationMs", openDurationMs);
+        ReflectionTestUtils.setField(service, "halfOpenCalls", 2);
+        ReflectionTestUtils.setField(service, "maxHosts", 100);
+        return service;
+    }
+
+    private void call(String host, boolean failed) {
+        breakers.acquire(host);
+        if (failed) {
+            breakers.onFailure(host);
+        } else {
+            breakers.onSuccess(host);
+        }
+    }
+
+    private CircuitState state(String host) {
+        return breakers.getStatuses().stream()
+                .filter(status -> status.getHost().equals(host))
+                .findFirst()
+                .map(CircuitBreakerStatus::getState)
+                .orElse(null);
+    }
+
+    private double hosts(CircuitState state) {
+        return meterRegistry.get("http.circuit.hosts").tag("state", state.name()).gauge().value();
+    }
+
+    @Test
+    void failureRateAtThreshold_opensAndShortCircuits() {
+        call(HOST, false);
+        call(HOST, true);
+        call(HOST, false);
+        assertEquals(CircuitState.CLOSED, state(HOST));
+
+        call(HOST, true);
+
+        assertEquals(CircuitState.OPEN, state(HOST));
+        assertThrows(CircuitOpenException.class, () -> breakers.acquire(HOST));
+        assertEquals(1.0, meterRegistry.get("http.circuit.opened").counter().count());
+        assertEquals(1.0, meterRegistry.get("http.circuit.rejected").counter().count());
+        assertEquals(1.0, hosts(CircuitState.OPEN));
+
+        CircuitBreakerStatus status = breakers.getStatuses().get(0);
+        assertEquals(4, status.getCalls());
+        assertEquals(2, status.getFailures());
+        assertEquals(50.0, status.getFailureRate());
+        assertNotNull(status.getOpenUntil());
+    }
+
+    @Test
+    void fewerThanMinimumCalls_staysClosed() {
+        call(HOST, true);
+        call(HOST, true);
+        call(HOST, true);
+
+        assertEquals(CircuitState.CLOSED, state(HOST));
+        assertDoesNotThrow(() -> breakers.acquire(HOST));
+    }
+
+    @Test
+    void oldFailures_slideOutOfTheWindow() {
+        call(HOST, true);
+        for (int i = 0; i < 10; i++) {
+            call(HOST, false);
+        }
+        call(HOST, true);
+
+        assertEquals(CircuitState.CLOSED, state(HOST));
+        assertEquals(1, breakers.getStatuses().get(0).getFailures());
+    }
+
+    @Test
+    void afterOpenDuration_probesThrough_andClosesWhenTheyAllSucceed() {
+        breakers = breakers(0L);
+        for (int i = 0; i < 4; i++) {
+            call(HOST, true);
+        }
+
+        breakers.acquire(HOST);
+        breakers.acquire(HOST);
+        assertEquals(CircuitState.HALF_OPEN, state(HOST));
+        // only half-open-calls probes at a time
+        assertThrows(CircuitOpenException.class, () -> breakers.acquire(HOST));
+
+        breakers.onSuccess(HOST);
+        breakers.onSuccess(HOST);
+
+        assertEquals(CircuitState.CLOSED, state(HOST));
+        assertEquals(0, breakers.getStatuses().get(0).getCalls());
+    }
+
+    @Test
+    void failedProbe_opensAgain() {
+        ReflectionTestUtils.setField(breakers, "openDurationMs", 0L);
+        for (int i = 0; i < 4; i++) {
+            call(HOST, true);
+        }
+
+        breakers.acquire(HOST);
+        breakers.onFailure(HOST);
+        ReflectionTestUtils.setField(breakers, "openDurationMs", 60_000L);
+
+        assertEquals(CircuitState.OPEN, state(HOST));
+        assertThrows(CircuitOpenException.class, () -> breakers.acquire(HOST));
+        assertEquals(2.0, meterRegistry.get("http.circuit.opened").counter().count());
+    }
+
+    @Test
+    void hostsTripIndependently_andResetClosesTheBreaker() {
+        for (int i = 0; i < 4; i++) {
+            call(HOST, true);
+            call("other.example.com", false);
+        }
+
+        assertDoesNotThrow(() -> breakers.acquire("other.example.com"));
+        List<CircuitBreakerStatus> statuses = breakers.getStatuses();
+        assertEquals(List.of(HOST, "other.example.com"), statuses.stream().map(CircuitBreakerStatus::getHost).toList());
+
+        assertTrue(breakers.reset(HOST));
+        assertFalse(breakers.reset(HOST));
+        assertDoesNotThrow(() -> breakers.acquire(HOST));
+    }
+
+    @Test
+    void disabled_neverShortCircuits() {
+        ReflectionTestUtils.setField(breakers, "enabled", false);
+        for (int i = 0; i < 4; i++) {
+            call(HOST, true);
+        }
+
+        assertDoesNotThrow(() -> breakers.acquire(HOST));
+        assertTrue(breakers.getStatuses().isEmpty());
+    }
+
+    @Test
+    void fullMap_evictsOnlyClosedBreakers_andKeepsOpenOnesOverTheCap() {
+        ReflectionTestUtils.setField(breakers, "maxHosts", 2);
+        for (String host : List.of("a.example.com", "b.example.com")) {
+            for (int i = 0; i < 4; i++) {
+                call(host, true);
+            }
+        }
+        assertEquals(CircuitState.OPEN, state("a.example.com"));
+        assertEquals(CircuitState.OPEN, state("b.example.com"));
+
+        call("c.example.com", false);
+        call("d.example.com", false);
+
+        // c was closed and made room for d; a and b still short-circuit
+        assertNull(state("c.example.com"));
+        assertEquals(CircuitState.CLOSED, state("d.example.com"));
+        assertThrows(CircuitOpenException.class, () -> breakers.acquire("a.example.com"));
+        assertThrows(CircuitOpenException.class, () -> breakers.acquire("b.example.com"));
+        assertEquals(3, breakers.getStatuses().size());
+    }
+}
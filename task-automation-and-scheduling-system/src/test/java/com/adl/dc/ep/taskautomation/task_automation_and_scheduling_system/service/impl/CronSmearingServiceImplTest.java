@@ -0,0 +1,108 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramBucket;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.FiringHistogramReport;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CronSmearingServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private Scheduler scheduler;
+
+    private CronSmearingServiceImpl service(boolean enabled, int windowSeconds) {
+        CronSmearing smearing = new CronSmearing();
+        ReflectionTestUtils.setField(smearing, "enabled", enabled);
+        ReflectionTestUtils.setField(smearing, "windowSeconds", windowSeconds);
+        CronSmearingServiceImpl service = new CronSmearingServiceImpl(taskRepository, scheduler, smearing);
+        ReflectionTestUtils.setField(service, "maxReportHours", 24);
+        return service;
+    }
+
+    private static Task task(long id, String cron) {
+        Task task = new Task();
+        task.setId(id);
+        task.setCronExpression(cron);
+        task.setStatus(TaskStatus.ACTIVE);
+        return task;
+    }
+
+    @Test
+    void getFiringHistogram_hourlyTasks_peakDropsToOnePerSecond() {
+        List<Task> hourly = LongStream.rangeClosed(1, 60).mapToObj(id -> task(id, "0 0 * * * ?")).toList();
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(hourly);
+
+        FiringHistogramReport report = service(false, 60).getFiringHistogram(2);
+
+        assertFalse(report.isSmearingEnabled());
+        assertEquals(60, report.getTasks());
+        assertEquals(120, report.getFirings());
+        assertEquals(60, report.getPeakPerSecondBefore());
+        assertEquals(1, report.getPeakPerSecondAfter());
+        assertEquals(2 * 3600, Duration.between(report.getFrom(), report.getTo()).toSeconds());
+        assertEquals(120, report.getSeconds().stream().mapToInt(FiringHistogramBucket::getBefore).sum());
+    }
+
+    @Test
+    void getFiringHistogram_skipsInvalidCrons_andCapsHours() {
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(List.of(task(1L, "not a cron")));
+
+        FiringHistogramReport report = service(true, 60).getFiringHistogram(1000);
+
+        assertEquals(0, report.getFirings());
+        assertTrue(report.getSeconds().isEmpty());
+        assertEquals(24 * 3600, Duration.between(report.getFrom(), report.getTo()).toSeconds());
+    }
+
+    @Test
+    void applyToScheduledTasks_reschedulesOnlyTriggersThatDiffer() throws Exception {
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE))
+                .thenReturn(List.of(task(5L, "0 0 * * * ?"), task(6L, "0/10 * * * * ?")));
+        when(scheduler.getTrigger(TriggerKey.triggerKey("5", "user-triggers"))).thenReturn(trigger("5", "0 0 * * * ?"));
+        when(scheduler.getTrigger(TriggerKey.triggerKey("6", "user-triggers"))).thenReturn(trigger("6", "0/10 * * * * ?"));
+        ArgumentCaptor<Trigger> updated = ArgumentCaptor.forClass(Trigger.class);
+
+        assertEquals(1, service(true, 60).applyToScheduledTasks());
+
+        verify(scheduler).rescheduleJob(eq(TriggerKey.triggerKey("5", "user-triggers")), updated.capture());
+        CronTrigger cronTrigger = (CronTrigger) updated.getValue();
+        assertEquals("5 0 * * * ?", cronTrigger.getCronExpression());
+        assertEquals(CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING, cronTrigger.getMisfireInstruction());
+        verify(scheduler, never()).rescheduleJob(eq(TriggerKey.triggerKey("6", "user-triggers")), any());
+    }
+
+    private static CronTrigger trigger(String taskId, String cron) {
+        return TriggerBuilder.newTrigger()
+                .withIdentity(taskId, "user-triggers")
+                .forJob(taskId, "user-tasks")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+}
@@ -1,15 +1,14 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
-import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.MailDispatchService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -21,26 +20,26 @@ import static org.mockito.Mockito.*;
 class EmailServiceImplTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailDispatchService mailDispatchService;
 
     @Mock
-    private UserRepository userRepository;
+    private TaskCacheService taskCache;
 
     private EmailServiceImpl service;
 
     @BeforeEach
     void setUp() {
-        service = new EmailServiceImpl(mailSender, userRepository);
+        service = new EmailServiceImpl(mailDispatchService, taskCache);
         ReflectionTestUtils.setField(service, "fromEmail", "noreply@test.com");
     }
 
     @Test
-    void sendSimpleEmail_sendsMessage() {
+    void sendSimpleEmail_dispatchesMessage() {
         ArgumentCaptor<SimpleMailMessage> captor = ArgumentCaptor.forClass(SimpleMailMessage.class);
 
         service.sendSimpleEmail("to@test.com", "Subject", "Body");
 
-        verify(mailSender).send(captor.capture());
+        verify(mailDispatchService).dispatch(captor.capture());
         SimpleMailMessage msg = captor.getValue();
 
         assertEquals("noreply@test.com", msg.getFrom());
@@ -50,34 +49,30 @@ class EmailServiceImplTest {
     }
 
     @Test
-    void sendSimpleEmail_mailSenderThrows_isSwallowed() {
-        doThrow(new RuntimeException("smtp down")).when(mailSender).send(any(SimpleMailMessage.class));
+    void sendSimpleEmail_dispatchThrows_isSwallowed() {
+        doThrow(new RuntimeException("smtp down")).when(mailDispatchService).dispatch(any(SimpleMailMessage.class));
 
         assertDoesNotThrow(() ->
                 service.sendSimpleEmail("to@test.com", "Subject", "Body")
         );
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailDispatchService).dispatch(any(SimpleMailMessage.class));
     }
 
     @Test
-    void sendTaskNotification_userExists_setsRecipientAndSends() {
+    void sendTaskNotification_userExists_setsRecipientAndDispatches() {
         Task task = new Task();
         task.setUserId(10L);
         task.setName("Daily Report");
 
-        User user = new User();
-        user.setId(10L);
-        user.setEmail("owner@test.com");
-
-        when(userRepository.findById(10L)).thenReturn(Optional.of(user));
+        when(taskCache.getUserEmail(10L)).thenReturn(Optional.of("owner@test.com"));
 
         ArgumentCaptor<SimpleMailMessage> captor = ArgumentCaptor.forClass(SimpleMailMessage.class);
 
         assertDoesNotThrow(() -> service.sendTaskNotification(task));
 
-        verify(userRepository).findById(10L);
-        verify(mailSender).send(captor.capture());
+        verify(taskCache).getUserEmail(10L);
+        verify(mailDispatchService).dispatch(captor.capture());
 
         SimpleMailMessage msg = captor.getValue();
         assertEquals("noreply@test.com", msg.getFrom());
@@ -87,19 +82,19 @@ class EmailServiceImplTest {
     }
 
     @Test
-    void sendTaskNotification_userMissing_stillCallsMailSender_withoutTo() {
+    void sendTaskNotification_userMissing_stillDispatches_withoutTo() {
         Task task = new Task();
         task.setUserId(999L);
         task.setName("No Owner");
 
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskCache.getUserEmail(999L)).thenReturn(Optional.empty());
 
         ArgumentCaptor<SimpleMailMessage> captor = ArgumentCaptor.forClass(SimpleMailMessage.class);
 
         assertDoesNotThrow(() -> service.sendTaskNotification(task));
 
-        verify(userRepository).findById(999L);
-        verify(mailSender).send(captor.capture());
+        verify(taskCache).getUserEmail(999L);
+        verify(mailDispatchService).dispatch(captor.capture());
 
         SimpleMailMessage msg = captor.getValue();
         assertEquals("noreply@test.com", msg.getFrom());
@@ -109,22 +104,18 @@ class EmailServiceImplTest {
     }
 
     @Test
-    void sendTaskNotification_mailSenderThrows_isSwallowed() {
+    void sendTaskNotification_dispatchThrows_isSwallowed() {
         Task task = new Task();
         task.setUserId(11L);
         task.setName("Fail Mail");
 
-        User user = new User();
-        user.setId(11L);
-        user.setEmail("fail@test.com");
-
-        when(userRepository.findById(11L)).thenReturn(Optional.of(user));
-        doThrow(new RuntimeException("smtp error")).when(mailSender).send(any(SimpleMailMessage.class));
+        when(taskCache.getUserEmail(11L)).thenReturn(Optional.of("fail@test.com"));
+        doThrow(new RuntimeException("smtp error")).when(mailDispatchService).dispatch(any(SimpleMailMessage.class));
 
         assertDoesNotThrow(() -> service.sendTaskNotification(task));
 
-        verify(userRepository).findById(11L);
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(taskCache).getUserEmail(11L);
+        verify(mailDispatchService).dispatch(any(SimpleMailMessage.class));
     }
 
     @Test
@@ -135,6 +126,6 @@ class EmailServiceImplTest {
 
         assertDoesNotThrow(() -> service.sendTaskNotification2(task));
 
-        verifyNoInteractions(userRepository, mailSender);
+        verifyNoInteractions(taskCache, mailDispatchService);
     }
 }
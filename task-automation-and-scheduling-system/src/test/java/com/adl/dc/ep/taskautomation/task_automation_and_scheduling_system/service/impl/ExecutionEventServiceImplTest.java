@@ -0,0 +1,186 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ExecutionEventResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionEventServiceImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutionEventServiceImpl events;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        events = new ExecutionEventServiceImpl(meterRegistry);
+        ReflectionTestUtils.setField(events, "bufferSize", 16);
+        ReflectionTestUtils.setField(events, "maxSubscribersPerUser", 5);
+        ReflectionTestUtils.setField(events, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(events, "heartbeatMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        events.stop();
+    }
+
+    private static TaskExecution execution(long taskId, ExecutionStatus status) {
+        TaskExecution execution = new TaskExecution();
+        execution.setTaskId(taskId);
+        execution.setStatus(status);
+        return execution;
+    }
+
+    @Test
+    void publish_reachesOnlyTheOwnersSubscribers() throws Exception {
+        RecordingEmitter mine = new RecordingEmitter();
+        RecordingEmitter theirs = new RecordingEmitter();
+        events.register(1L, mine);
+        events.register(2L, theirs);
+
+        events.publish(1L, "fire-1", execution(10L, ExecutionStatus.RUNNING));
+        events.publish(3L, "fire-1", execution(30L, ExecutionStatus.RUNNING));
+
+        ExecutionEventResponse event = mine.nextExecution();
+        assertEquals("fire-1", event.getFireInstanceId());
+        assertEquals(10L, event.getTaskId());
+        assertEquals(ExecutionStatus.RUNNING, event.getStatus());
+        assertNull(theirs.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_sendsASnapshot_notTheLiveExecution() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.blockFirstSend();
+        events.register(1L, emitter);
+
+        TaskExecution execution = execution(10L, ExecutionStatus.RUNNING);
+        events.publish(1L, "fire-1", execution);
+        execution.setStatus(ExecutionStatus.SUCCESS);
+        events.publish(1L, "fire-1", execution);
+        emitter.release();
+
+        assertEquals(ExecutionStatus.RUNNING, emitter.nextExecution().getStatus());
+        assertEquals(ExecutionStatus.SUCCESS, emitter.nextExecution().getStatus());
+    }
+
+    @Test
+    void publish_fullBuffer_dropsEvents_andTellsTheSubscriberHowMany() throws Exception {
+        ReflectionTestUtils.setField(events, "bufferSize", 1);
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.blockFirstSend();
+        events.register(1L, emitter);
+
+        events.publish(1L, "fire-1", execution(1L, ExecutionStatus.RUNNING));
+        // the sender holds event 1 and is stuck writing it, event 2 fills the buffer
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        events.publish(1L, "fire-1", execution(2L, ExecutionStatus.RUNNING));
+        events.publish(1L, "fire-1", execution(3L, ExecutionStatus.RUNNING));
+        events.publish(1L, "fire-1", execution(4L, ExecutionStatus.RUNNING));
+        emitter.release();
+
+        assertEquals(1L, emitter.nextExecution().getTaskId());
+        assertEquals(List.of("dropped", 2L), emitter.next());
+        assertEquals(2L, emitter.nextExecution().getTaskId());
+        assertEquals(2.0, meterRegistry.counter("execution.events.dropped").count());
+    }
+
+    @Test
+    void register_overTheLimit_closesTheOldestStream() {
+        ReflectionTestUtils.setField(events, "maxSubscribersPerUser", 1);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+
+        ExecutionEventServiceImpl.Subscriber oldest = events.register(1L, first);
+        ExecutionEventServiceImpl.Subscriber newest = events.register(1L, second);
+
+        assertTrue(first.completed);
+        assertFalse(oldest.isOpen());
+        assertTrue(newest.isOpen());
+        assertEquals(1.0, meterRegistry.get("execution.events.subscribers").gauge().value());
+    }
+
+    @Test
+    void publish_withoutSubscribers_isANoOp() {
+        events.publish(1L, "fire-1", execution(1L, ExecutionStatus.RUNNING));
+        events.publish(null, "fire-1", execution(1L, ExecutionStatus.RUNNING));
+
+        assertEquals(0.0, meterRegistry.counter("execution.events.published").count());
+    }
+
+    /**
+     * records what would be written to the response: event name followed by the data.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<List<Object>> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        void blockFirstSend() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            // build() splits an event into the text around the data and the data object itself
+            String name = null;
+            Object data = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    if (text.startsWith("event:")) {
+                        name = text.substring("event:".length(), text.indexOf('\n'));
+                    }
+                } else {
+                    data = part.getData();
+                }
+            }
+            sent.add(name != null ? List.of(name, data) : List.of("comment"));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<Object> next() throws InterruptedException {
+            List<Object> event = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "no event sent");
+            return event;
+        }
+
+        ExecutionEventResponse nextExecution() throws InterruptedException {
+            List<Object> event = next();
+            assertEquals("execution", event.get(0));
+            return (ExecutionEventResponse) event.get(1);
+        }
+    }
+}
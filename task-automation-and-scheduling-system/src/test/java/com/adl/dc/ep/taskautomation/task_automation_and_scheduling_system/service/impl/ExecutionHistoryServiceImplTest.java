@@ -0,0 +1,212 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionHistoryServiceImplTest {
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private ExecutionHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExecutionHistoryServiceImpl(jdbcTemplate);
+        ReflectionTestUtils.setField(service, "retentionDays", 90);
+        ReflectionTestUtils.setField(service, "partitionGranularity", "MONTHLY");
+        ReflectionTestUtils.setField(service, "partitionsAhead", 2);
+        ReflectionTestUtils.setField(service, "deleteBatchSize", 1000);
+        ReflectionTestUtils.setField(service, "rollupLookbackHours", 3);
+    }
+
+    private void partitioned(boolean partitioned) {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(partitioned);
+    }
+
+    // name -> pg_get_expr(relpartbound), run through the service's row mapper
+    @SuppressWarnings("unchecked")
+    private void attached(String... nameAndBound) {
+        when(jdbcTemplate.query(startsWith("SELECT c.relname"), any(RowMapper.class))).thenAnswer(inv -> {
+            RowMapper<Object> mapper = inv.getArgument(1);
+            List<Object> rows = new ArrayList<>();
+            for (int i = 0; i < nameAndBound.length; i += 2) {
+                rows.add(mapper.mapRow(row(nameAndBound[i], nameAndBound[i + 1]), i / 2));
+            }
+            return rows;
+        });
+    }
+
+    private static ResultSet row(String name, String bound) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(name);
+        when(rs.getString(2)).thenReturn(bound);
+        return rs;
+    }
+
+    private static String range(LocalDate from, LocalDate to) {
+        return "FOR VALUES FROM ('" + from + " 00:00:00') TO ('" + to + " 00:00:00')";
+    }
+
+    @Test
+    void ensurePartitions_createsCurrentAndUpcomingMonths() {
+        partitioned(true);
+        attached("task_executions_default", "DEFAULT");
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+
+        service.ensurePartitions();
+
+        for (int i = 0; i <= 2; i++) {
+            String name = "task_executions_p" + month.plusMonths(i).format(MONTH);
+            verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF"));
+        }
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+
+    @Test
+    void ensurePartitions_switchedToDaily_skipsDaysInsideMonthlyPartitions() {
+        partitioned(true);
+        ReflectionTestUtils.setField(service, "partitionGranularity", "DAILY");
+        ReflectionTestUtils.setField(service, "partitionsAhead", 40);
+        LocalDate today = LocalDate.now();
+        LocalDate month = today.withDayOfMonth(1);
+        attached("task_executions_p" + month.format(MONTH), range(month, month.plusMonths(1)),
+                "task_executions_default", "DEFAULT");
+
+        service.ensurePartitions();
+
+        LocalDate firstDaily = month.plusMonths(1);
+        long uncoveredDays = ChronoUnit.DAYS.between(firstDaily, today.plusDays(41));
+        verify(jdbcTemplate, times((int) uncoveredDays)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS task_executions_p"
+                + firstDaily.format(DateTimeFormatter.ofPattern("yyyy_MM_dd")) + " PARTITION OF"));
+    }
+
+    @Test
+    void ensurePartitions_switchedToMonthly_fillsPartlyCoveredMonthByDay() {
+        partitioned(true);
+        ReflectionTestUtils.setField(service, "partitionsAhead", 0);
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        attached("task_executions_p" + month.format(DateTimeFormatter.ofPattern("yyyy_MM_dd")),
+                range(month, month.plusDays(1)));
+
+        service.ensurePartitions();
+
+        int remainingDays = month.lengthOfMonth() - 1;
+        verify(jdbcTemplate, times(remainingDays)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS task_executions_p"
+                + month.format(MONTH) + " PARTITION OF"));
+    }
+
+    @Test
+    void ensurePartitions_failedCreate_doesNotStopTheRest() {
+        partitioned(true);
+        attached();
+        doThrow(new DataAccessResourceFailureException("overlap"))
+                .doNothing()
+                .when(jdbcTemplate).execute(anyString());
+
+        service.ensurePartitions();
+
+        verify(jdbcTemplate, times(3)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+    }
+
+    @Test
+    void ensurePartitions_whenTableNotPartitioned_doesNothing() {
+        partitioned(false);
+
+        service.ensurePartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void applyRetention_partitioned_dropsOnlyFullyExpiredPartitions() {
+        partitioned(true);
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        String expired = "task_executions_p" + thisMonth.minusMonths(6).format(MONTH);
+        String recent = "task_executions_p" + thisMonth.minusMonths(2).format(MONTH);
+        String current = "task_executions_p" + thisMonth.format(MONTH);
+        attached(expired, range(thisMonth.minusMonths(6), thisMonth.minusMonths(5)),
+                recent, range(thisMonth.minusMonths(2), thisMonth.minusMonths(1)),
+                current, range(thisMonth, thisMonth.plusMonths(1)),
+                "task_executions_default", "DEFAULT");
+
+        service.applyRetention();
+
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS " + expired);
+        verify(jdbcTemplate, times(1)).execute(anyString());
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(), any());
+    }
+
+    @Test
+    void applyRetention_unpartitioned_deletesInBatchesUntilDone() {
+        partitioned(false);
+        when(jdbcTemplate.update(startsWith("DELETE"), any(), any())).thenReturn(1000, 1000, 17);
+
+        service.applyRetention();
+
+        verify(jdbcTemplate, times(3)).update(startsWith("DELETE"), any(LocalDateTime.class), eq(1000));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void refreshRollups_recomputesFromLookbackBeforeLastBucket() {
+        LocalDateTime lastBucket = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(bucket_start)"), eq(LocalDateTime.class)))
+                .thenReturn(lastBucket);
+
+        service.refreshRollups();
+
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT INTO task_execution_rollups"),
+                any(LocalDateTime.class), eq(lastBucket.minusHours(3)), eq(lastBucket.plusHours(1)));
+    }
+
+    @Test
+    void refreshRollups_firstRun_backfillsRetentionWindowOneDayAtATime() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(bucket_start)"), eq(LocalDateTime.class)))
+                .thenReturn(null);
+
+        service.refreshRollups();
+
+        // 90 days back to the end of the current hour, one statement per day
+        verify(jdbcTemplate, times(91)).update(startsWith("INSERT INTO task_execution_rollups"),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void runMaintenance_failedStep_doesNotSkipTheRest() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(bucket_start)"), eq(LocalDateTime.class)))
+                .thenReturn(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+        when(jdbcTemplate.update(startsWith("DELETE"), any(), any())).thenReturn(0);
+
+        service.runMaintenance();
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO task_execution_rollups"), any(), any(), any());
+        verify(jdbcTemplate).update(startsWith("DELETE"), any(), any());
+    }
+}
@@ -0,0 +1,216 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionJournalServiceImplTest {
+
+    @Mock private TaskExecutionRepository executionRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ExecutionJournalServiceImpl journal;
+    private final List<List<TaskExecution>> insertedBatches = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        journal = new ExecutionJournalServiceImpl(executionRepository, jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(journal, "batchSize", 500);
+        ReflectionTestUtils.setField(journal, "flushIntervalMs", 1000L);
+        ReflectionTestUtils.setField(journal, "maxPending", 10_000);
+    }
+
+    private void saveAllAssignsIds() {
+        when(executionRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+            List<TaskExecution> batch = new ArrayList<>();
+            for (TaskExecution execution : inv.<Iterable<TaskExecution>>getArgument(0)) {
+                execution.setId(nextId.getAndIncrement());
+                batch.add(execution);
+            }
+            insertedBatches.add(batch);
+            return batch;
+        });
+    }
+
+    private static TaskExecution started(long taskId) {
+        TaskExecution execution = new TaskExecution();
+        execution.setTaskId(taskId);
+        execution.setStatus(ExecutionStatus.RUNNING);
+        execution.setStartTime(LocalDateTime.now());
+        return execution;
+    }
+
+    private static void finish(TaskExecution execution, ExecutionStatus status) {
+        execution.setStatus(status);
+        execution.setEndTime(LocalDateTime.now());
+    }
+
+    @Test
+    void flush_hundredFirings_costOneInsertBatchAndOneUpdateBatch() {
+        saveAllAssignsIds();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < 100; i++) {
+            long taskId = i % 10;
+            TaskExecution execution = started(taskId);
+            journal.recordStarted(execution);
+            finish(execution, ExecutionStatus.SUCCESS);
+            journal.recordFinished(execution);
+            journal.recordTaskExecuted(taskId, now.plusSeconds(i));
+        }
+        journal.flush();
+
+        // 200 state changes and 100 task updates previously meant 300 round-trips
+        verify(executionRepository, times(1)).saveAll(anyIterable());
+        assertEquals(100, insertedBatches.get(0).size());
+        assertTrue(insertedBatches.get(0).stream().allMatch(e -> e.getStatus() == ExecutionStatus.SUCCESS));
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE tasks"),
+                argThat((Collection<Object> rows) -> rows.size() == 10), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE task_executions"),
+                anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_executionStillRunning_isInsertedThenUpdated() {
+        saveAllAssignsIds();
+        TaskExecution execution = started(1L);
+
+        journal.recordStarted(execution);
+        journal.flush();
+        assertNotNull(insertedBatches.get(0).get(0).getId());
+        assertNull(execution.getId(), "the journal writes from snapshots, never to the caller's entity");
+
+        finish(execution, ExecutionStatus.FAILED);
+        execution.setErrorMessage("boom");
+        journal.recordFinished(execution);
+        journal.flush();
+
+        verify(executionRepository, times(1)).saveAll(anyIterable());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE task_executions"),
+                argThat((Collection<Object> rows) -> rows.size() == 1), eq(500), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_whenWriteFails_retriesWithNextFlush() {
+        when(executionRepository.saveAll(anyIterable()))
+                .thenAnswer(inv -> {
+                    inv.<Iterable<TaskExecution>>getArgument(0).forEach(e -> e.setId(42L));
+                    throw new DataAccessResourceFailureException("connection refused");
+                })
+                .thenAnswer(inv -> inv.getArgument(0));
+        TaskExecution execution = started(1L);
+        finish(execution, ExecutionStatus.SUCCESS);
+
+        journal.recordFinished(execution);
+        journal.flush();
+        journal.flush();
+
+        // inserted again: the id handed out inside the rolled back batch is not reused
+        verify(executionRepository, times(2)).saveAll(anyIterable());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE task_executions"),
+                anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_withOnePoisonedRecord_writesTheOthersAndDropsOnlyIt() {
+        when(executionRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+            List<TaskExecution> batch = new ArrayList<>();
+            inv.<Iterable<TaskExecution>>getArgument(0).forEach(batch::add);
+            if (batch.stream().anyMatch(e -> e.getTaskId() == 13L)) {
+                throw new DataIntegrityViolationException("value too long for type character varying(20)");
+            }
+            batch.forEach(e -> e.setId(nextId.getAndIncrement()));
+            insertedBatches.add(batch);
+            return batch;
+        });
+        for (long taskId = 10; taskId < 15; taskId++) {
+            TaskExecution execution = started(taskId);
+            finish(execution, ExecutionStatus.SUCCESS);
+            journal.recordFinished(execution);
+        }
+
+        journal.flush();
+        journal.flush();
+
+        // the failed batch of five, then each record on its own; nothing is left to retry
+        verify(executionRepository, times(6)).saveAll(anyIterable());
+        assertEquals(List.of(10L, 11L, 12L, 14L),
+                insertedBatches.stream().flatMap(List::stream).map(TaskExecution::getTaskId).toList());
+    }
+
+    @Test
+    void flush_executionChangedAfterRecording_writesTheRecordedState() {
+        saveAllAssignsIds();
+        TaskExecution execution = started(1L);
+
+        journal.recordStarted(execution);
+        // the job thread carries on with its entity while the record waits for the flusher
+        finish(execution, ExecutionStatus.SUCCESS);
+        journal.flush();
+
+        assertEquals(ExecutionStatus.RUNNING, insertedBatches.get(0).get(0).getStatus());
+        assertNull(insertedBatches.get(0).get(0).getEndTime());
+    }
+
+    @Test
+    void recordFinished_afterStop_writesThroughInsteadOfRejecting() {
+        saveAllAssignsIds();
+        journal.start();
+        journal.stop();
+        TaskExecution execution = started(1L);
+        finish(execution, ExecutionStatus.SUCCESS);
+
+        journal.recordFinished(execution);
+        journal.recordTaskExecuted(1L, execution.getEndTime());
+
+        assertEquals(1, insertedBatches.size());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE tasks"),
+                argThat((Collection<Object> rows) -> rows.size() == 1), eq(500), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_whenNothingPending_doesNotTouchTheDatabase() {
+        journal.flush();
+
+        verifyNoInteractions(executionRepository, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void recordFinished_truncatesLongResult() {
+        saveAllAssignsIds();
+        TaskExecution execution = started(1L);
+        finish(execution, ExecutionStatus.SUCCESS);
+        execution.setResult("x".repeat(6000));
+
+        journal.recordFinished(execution);
+        journal.flush();
+
+        assertEquals(5000, insertedBatches.get(0).get(0).getResult().length());
+        assertEquals(6000, execution.getResult().length());
+    }
+}
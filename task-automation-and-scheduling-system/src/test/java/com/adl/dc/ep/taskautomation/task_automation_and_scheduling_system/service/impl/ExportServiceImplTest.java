@@ -0,0 +1,151 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExportLimitExceededException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement statement;
+    // columns that aren't stubbed read as null
+    @Mock(strictness = Mock.Strictness.LENIENT) private ResultSet resultSet;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private ExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new ExportServiceImpl(jdbcTemplate, transactionManager, jsonMapper);
+        ReflectionTestUtils.setField(service, "fetchSize", 2);
+        ReflectionTestUtils.setField(service, "maxConcurrent", 1);
+        service.init();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+    }
+
+    /**
+     * run the statement creator, then hand the row callback {@code rows} rows.
+     */
+    private void queryReturns(int rows) {
+        doAnswer(inv -> {
+            inv.getArgument(0, PreparedStatementCreator.class).createPreparedStatement(connection);
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (int i = 0; i < rows; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private String[] lines(ByteArrayOutputStream out) {
+        return out.toString(StandardCharsets.UTF_8).trim().split("\n");
+    }
+
+    @Test
+    void exportTasks_writesOneJsonObjectPerLine() throws Exception {
+        when(resultSet.getLong("id")).thenReturn(1L, 2L, 3L);
+        when(resultSet.getString("name")).thenReturn("a", "b", "c");
+        when(resultSet.getString("task_type")).thenReturn("EMAIL");
+        when(resultSet.getString("status")).thenReturn("ACTIVE");
+        queryReturns(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportTasks(42L, out);
+
+        assertEquals(3, rows);
+        String[] lines = lines(out);
+        assertEquals(3, lines.length);
+        JsonNode first = jsonMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("a", first.get("name").asString());
+        assertEquals("EMAIL", first.get("taskType").asString());
+        assertEquals(3L, jsonMapper.readTree(lines[2]).get("id").asLong());
+
+        verify(statement).setFetchSize(2);
+        verify(statement).setObject(1, 42L);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportExecutions_appendsOnlyGivenFilters() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(resultSet.getLong("id")).thenReturn(10L);
+        when(resultSet.getLong("task_id")).thenReturn(7L);
+        when(resultSet.getString("status")).thenReturn("SUCCESS");
+        when(resultSet.getString("result")).thenReturn("ok");
+        queryReturns(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportExecutions(42L, 7L, from, null, out);
+
+        assertEquals(1, rows);
+        JsonNode execution = jsonMapper.readTree(lines(out)[0]);
+        assertEquals(7L, execution.get("taskId").asLong());
+        assertEquals("SUCCESS", execution.get("status").asString());
+        assertEquals("ok", execution.get("result").asString());
+
+        verify(connection).prepareStatement(
+                argThat(sql -> sql.contains("t.user_id = ? AND e.task_id = ? AND e.start_time >= ?")
+                        && !sql.contains("e.start_time < ?")),
+                anyInt(), anyInt());
+        verify(statement).setObject(1, 42L);
+        verify(statement).setObject(2, 7L);
+        verify(statement).setObject(3, from);
+    }
+
+    @Test
+    void export_leavesResponseStreamOpen() throws Exception {
+        queryReturns(0);
+        OutputStream out = spy(new ByteArrayOutputStream());
+
+        assertEquals(0, service.exportTasks(42L, out));
+
+        verify(out, never()).close();
+    }
+
+    @Test
+    void acquireSlot_whenAllTaken_rejectsUntilOneIsReleased() throws Exception {
+        queryReturns(0);
+        ExportService.Slot slot = service.acquireSlot();
+
+        assertThrows(ExportLimitExceededException.class, service::acquireSlot);
+
+        slot.close();
+        slot.close(); // a second close must not free a slot it doesn't hold
+        try (ExportService.Slot next = service.acquireSlot()) {
+            assertEquals(0, service.exportTasks(42L, new ByteArrayOutputStream()));
+            assertThrows(ExportLimitExceededException.class, service::acquireSlot);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.CapacityForecast;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.ForecastBucket;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ForecastResolution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerMetaData;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FireTimeForecastServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @Mock
+    private SchedulerMetaData metaData;
+
+    private MeterRegistry meterRegistry;
+    private FireTimeForecastServiceImpl forecastService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        forecastService = new FireTimeForecastServiceImpl(taskRepository, scheduler, new CronSmearing(), meterRegistry);
+        ReflectionTestUtils.setField(forecastService, "maxHours", 48);
+        ReflectionTestUtils.setField(forecastService, "rebuildIntervalMinutes", 10L);
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(metaData.getThreadPoolSize()).thenReturn(100);
+    }
+
+    private static Task task(long id, String cron) {
+        Task task = new Task();
+        task.setId(id);
+        task.setCronExpression(cron);
+        task.setStatus(TaskStatus.ACTIVE);
+        return task;
+    }
+
+    @Test
+    void getForecast_firstCall_buildsIndexFromActiveTasks() {
+        List<Task> hourly = LongStream.rangeClosed(1, 30).mapToObj(id -> task(id, "0 0 * * * ?")).toList();
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(hourly);
+
+        CapacityForecast forecast = forecastService.getForecast(2, ForecastResolution.MINUTE);
+
+        assertEquals(30, forecast.getTasks());
+        assertEquals(1, forecast.getSchedules());
+        assertEquals(60, forecast.getExecutions());
+        assertEquals(30, forecast.getPeakPerSecond());
+        assertEquals(30, forecast.getPeakPerMinute());
+        assertEquals(0, forecast.getPeakMinute().getMinute());
+        assertEquals(2, forecast.getBuckets().size());
+        assertEquals(2 * 3600, Duration.between(forecast.getFrom(), forecast.getTo()).toSeconds());
+        assertNull(forecast.getAverageExecutionMs());
+        assertEquals(30, forecast.getEstimatedPeakConcurrency());
+        assertEquals(100, forecast.getThreadPoolSize());
+        assertEquals(30.0, meterRegistry.get("task.forecast.tasks").gauge().value());
+
+        forecastService.getForecast(1, ForecastResolution.MINUTE);
+        verify(taskRepository, times(1)).findByStatus(TaskStatus.ACTIVE);
+    }
+
+    @Test
+    void putAndRemove_updateTheIndexWithoutRebuilding() {
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(List.of());
+        forecastService.getForecast(1, ForecastResolution.MINUTE);
+
+        forecastService.put(task(1L, "0 0 * * * ?"));
+        forecastService.put(task(2L, "0 0 * * * ?"));
+        forecastService.put(task(3L, "0 0 * * * ?"));
+        forecastService.put(task(2L, "0 30 * * * ?"));
+        forecastService.remove(3L);
+        Task paused = task(4L, "0 0 * * * ?");
+        paused.setStatus(TaskStatus.PAUSED);
+        forecastService.put(paused);
+
+        CapacityForecast forecast = forecastService.getForecast(2, ForecastResolution.MINUTE);
+
+        assertEquals(2, forecast.getTasks());
+        assertEquals(2, forecast.getSchedules());
+        assertEquals(4, forecast.getExecutions());
+        assertEquals(1, forecast.getPeakPerMinute());
+        assertEquals(4, forecast.getBuckets().stream().mapToInt(ForecastBucket::getExecutions).sum());
+        verify(taskRepository, times(1)).findByStatus(TaskStatus.ACTIVE);
+    }
+
+    @Test
+    void putAndRemove_insideATransaction_applyOnlyOnCommit() {
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(List.of(task(1L, "0 0 * * * ?")));
+        forecastService.getForecast(1, ForecastResolution.MINUTE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            forecastService.put(task(2L, "0 30 * * * ?"));
+            forecastService.remove(1L);
+            assertEquals(0, forecastService.getForecast(1, ForecastResolution.MINUTE).getPeakMinute().getMinute());
+
+            List<TransactionSynchronization> pending = TransactionSynchronizationManager.getSynchronizations();
+            pending.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CapacityForecast forecast = forecastService.getForecast(1, ForecastResolution.MINUTE);
+        assertEquals(1, forecast.getTasks());
+        assertEquals(30, forecast.getPeakMinute().getMinute());
+    }
+
+    @Test
+    void rebuild_keepsChangesCommittedWhileItReads() {
+        // task 2 is created and task 1 deleted while the rebuild's query is running
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenAnswer(inv -> {
+            forecastService.put(task(2L, "0 30 * * * ?"));
+            forecastService.remove(1L);
+            return List.of(task(1L, "0 0 * * * ?"));
+        });
+
+        CapacityForecast forecast = forecastService.getForecast(1, ForecastResolution.MINUTE);
+
+        assertEquals(1, forecast.getTasks());
+        assertEquals(30, forecast.getPeakMinute().getMinute());
+    }
+
+    @Test
+    void getForecast_concurrencySpansTheAverageExecutionTime() {
+        // one firing in each of the first ten seconds of the hour
+        List<Task> staggered = LongStream.range(0, 10).mapToObj(s -> task(s + 1, s + " 0 * * * ?")).toList();
+        when(taskRepository.findByStatus(TaskStatus.ACTIVE)).thenReturn(staggered);
+        Timer.builder("task.execution").tag("status", "SUCCESS").register(meterRegistry)
+                .record(Duration.ofMillis(2500));
+
+        CapacityForecast forecast = forecastService.getForecast(1, ForecastResolution.SECOND);
+
+        assertEquals(1, forecast.getPeakPerSecond());
+        assertEquals(10, forecast.getPeakPerMinute());
+        assertEquals(2500.0, forecast.getAverageExecutionMs());
+        // a run lasting 2.5s overlaps the ones started in the two seconds before it
+        assertEquals(3, forecast.getEstimatedPeakConcurrency());
+        assertEquals(10, forecast.getBuckets().size());
+    }
+}
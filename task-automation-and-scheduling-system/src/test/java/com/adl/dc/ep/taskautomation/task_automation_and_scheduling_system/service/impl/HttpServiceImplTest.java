@@ -0,0 +1,200 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.config.HttpClientConfig;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.CircuitOpenException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.CircuitBreakerService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class HttpServiceImplTest {
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private HttpServiceImpl service;
+    private String baseUrl;
+    private final AtomicInteger errorRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, "application/json", "{\"status\":\"up\"}"));
+        server.createContext("/error", exchange -> {
+            errorRequests.incrementAndGet();
+            respond(exchange, 503, "text/plain", "unavailable");
+        });
+        server.createContext("/missing", exchange -> respond(exchange, 404, "text/plain", "not found"));
+        server.createContext("/secret", exchange -> respond(exchange, 500, "text/plain", "boom"));
+        server.createContext("/large", exchange -> respond(exchange, 200, "text/plain", "x".repeat(4096)));
+        server.createContext("/weather", exchange -> respond(exchange, 200, "application/json",
+                "{\"name\":\"Colombo\",\"main\":{\"temp\":29.5},\"weather\":[{\"description\":\"clear sky\"}]}"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 2000L);
+        httpClient = config.outboundHttpClient();
+
+        CircuitBreakerServiceImpl circuitBreaker = new CircuitBreakerServiceImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "windowSize", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(circuitBreaker, "openDurationMs", 60_000L);
+        ReflectionTestUtils.setField(circuitBreaker, "halfOpenCalls", 1);
+        ReflectionTestUtils.setField(circuitBreaker, "maxHosts", 100);
+
+        service = new HttpServiceImpl(httpClient, JsonMapper.builder().build(), circuitBreaker);
+        ReflectionTestUtils.setField(service, "readTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(service, "maxResponseBytes", 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    void getForString_returnsBody() {
+        assertEquals("{\"status\":\"up\"}", service.getForString(baseUrl + "/ok"));
+    }
+
+    @Test
+    void getForStringAsync_completesWithBody() {
+        assertEquals("{\"status\":\"up\"}", service.getForStringAsync(baseUrl + "/ok").join());
+    }
+
+    @Test
+    void getForString_errorStatus_throwsExternalServiceException() {
+        ExternalServiceException ex = assertThrows(ExternalServiceException.class,
+                () -> service.getForString(baseUrl + "/error"));
+        assertTrue(ex.getMessage().contains("503"));
+    }
+
+    @Test
+    void getForString_bodyOverLimit_throwsExternalServiceException() {
+        ExternalServiceException ex = assertThrows(ExternalServiceException.class,
+                () -> service.getForString(baseUrl + "/large"));
+        assertTrue(ex.getMessage().contains("exceeded"));
+    }
+
+    @Test
+    void getForObject_mapsJsonBody() {
+        OpenWeatherResponseDto dto = service.getForObject(baseUrl + "/weather", OpenWeatherResponseDto.class);
+
+        assertNotNull(dto);
+        assertEquals("Colombo", dto.getName());
+        assertEquals(29.5, dto.getMain().getTemp());
+        assertEquals("clear sky", dto.getWeather().get(0).getDescription());
+    }
+
+    @Test
+    void getForObject_errorStatus_throwsExternalServiceException() {
+        assertThrows(ExternalServiceException.class,
+                () -> service.getForObject(baseUrl + "/error", OpenWeatherResponseDto.class));
+    }
+
+    @Test
+    void getForObject_bodyOverLimit_throwsExternalServiceException() {
+        ExternalServiceException ex = assertThrows(ExternalServiceException.class,
+                () -> service.getForObject(baseUrl + "/large", OpenWeatherResponseDto.class));
+        assertTrue(ex.getMessage().contains("exceeded"));
+    }
+
+    @Test
+    void errorMessages_leaveOutTheQueryString() {
+        ExternalServiceException status = assertThrows(ExternalServiceException.class,
+                () -> service.getForObject(baseUrl + "/secret?q=Colombo&appid=top-secret", OpenWeatherResponseDto.class));
+        ExternalServiceException transport = assertThrows(ExternalServiceException.class,
+                () -> service.getForString("http://127.0.0.1:1/secret?appid=top-secret"));
+
+        assertTrue(status.getMessage().contains(baseUrl + "/secret"));
+        assertFalse(status.getMessage().contains("top-secret"));
+        assertFalse(transport.getMessage().contains("top-secret"));
+    }
+
+    @Test
+    void getForString_hostFailingRepeatedly_isShortCircuited() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExternalServiceException.class, () -> service.getForString(baseUrl + "/error"));
+        }
+
+        assertThrows(CircuitOpenException.class, () -> service.getForString(baseUrl + "/ok"));
+        assertThrows(CircuitOpenException.class,
+                () -> service.getForObject(baseUrl + "/weather", OpenWeatherResponseDto.class));
+        assertEquals(4, errorRequests.get());
+    }
+
+    @Test
+    void getForString_clientErrors_doNotTripTheBreaker() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExternalServiceException.class, () -> service.getForString(baseUrl + "/missing"));
+            assertThrows(ExternalServiceException.class, () -> service.getForString(baseUrl + "/large"));
+        }
+
+        assertEquals("{\"status\":\"up\"}", service.getForString(baseUrl + "/ok"));
+    }
+
+    @Test
+    void getForStringAsync_sendThrowing_recordsFailureSoAProbeSlotIsNotLeaked() {
+        HttpClient failingClient = mock(HttpClient.class);
+        when(failingClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IllegalStateException("executor rejected the exchange"));
+        CircuitBreakerService circuitBreaker = mock(CircuitBreakerService.class);
+        HttpServiceImpl failing = new HttpServiceImpl(failingClient, JsonMapper.builder().build(), circuitBreaker);
+        ReflectionTestUtils.setField(failing, "readTimeoutMs", 2000L);
+
+        CompletableFuture<String> result = failing.getForStringAsync("http://probe.example.com/health");
+
+        assertTrue(result.isCompletedExceptionally());
+        verify(circuitBreaker).acquire("probe.example.com");
+        verify(circuitBreaker).onFailure("probe.example.com");
+        assertThrows(ExternalServiceException.class, () -> failing.getForString("http://probe.example.com/health"));
+    }
+
+    @Test
+    void redact_keepsSchemeHostAndPath() {
+        assertEquals("https://api.example.com/data/2.5/weather",
+                HttpServiceImpl.redact(URI.create("https://user:pw@api.example.com/data/2.5/weather?appid=k")));
+    }
+
+    @Test
+    void hostOf_keysByHostAndPort() {
+        assertEquals("api.example.com", HttpService.hostOf(URI.create("https://API.example.com/v1?q=1")));
+        assertEquals("10.0.0.5:8080", HttpService.hostOf(URI.create("http://10.0.0.5:8080/health")));
+    }
+}
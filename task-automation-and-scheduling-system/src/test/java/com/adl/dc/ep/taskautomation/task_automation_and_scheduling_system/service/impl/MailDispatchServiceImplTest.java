@@ -0,0 +1,241 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MailDispatchServiceImplTest {
+
+    private FakeSmtpServer smtp;
+    private JavaMailSenderImpl senderImpl;
+    private SimpleMeterRegistry meterRegistry;
+    private MailDispatchServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        senderImpl = new JavaMailSenderImpl();
+        senderImpl.setHost("127.0.0.1");
+        senderImpl.setPort(smtp.port());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.stop();
+        }
+        smtp.close();
+    }
+
+    private MailDispatchServiceImpl newService(JavaMailSender sender, int connections, int queueCapacity) {
+        MailDispatchServiceImpl dispatcher = new MailDispatchServiceImpl(sender, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "connections", connections);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(dispatcher, "enqueueTimeoutMs", 10L);
+        ReflectionTestUtils.setField(dispatcher, "idleTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(dispatcher, "shutdownTimeoutMs", 10_000L);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@test.com");
+        message.setTo("user" + i + "@test.com");
+        message.setSubject("Task Executed: " + i);
+        message.setText("Your scheduled task has been executed successfully.");
+        return message;
+    }
+
+    private void awaitDelivered(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (smtp.messages.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, smtp.messages.get());
+    }
+
+    private void awaitFailed(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (meterRegistry.counter("mail.dispatch.messages", "result", "failed").count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    // throughput against a session per message is compared in MailDispatchBenchmark
+    @Test
+    void dispatch_burst_isSentOverPooledSessions() throws Exception {
+        int messages = 500;
+        service = newService(senderImpl, 2, 10_000);
+
+        for (int i = 0; i < messages; i++) {
+            service.dispatch(message(i));
+        }
+
+        awaitDelivered(messages);
+        assertTrue(smtp.connections.get() <= 2, "connections=" + smtp.connections.get());
+        assertEquals(messages, meterRegistry.counter("mail.dispatch.messages", "result", "sent").count());
+        assertEquals(messages, meterRegistry.get("notification.send").timer().count());
+    }
+
+    @Test
+    void dispatch_whenServerDropsSession_reconnectsAndKeepsSending() throws Exception {
+        smtp.maxMessagesPerConnection = 10;
+        service = newService(senderImpl, 1, 10_000);
+
+        for (int i = 0; i < 30; i++) {
+            service.dispatch(message(i));
+        }
+
+        awaitDelivered(30);
+        assertEquals(3, smtp.connections.get());
+        assertEquals(0.0, meterRegistry.counter("mail.dispatch.messages", "result", "failed").count());
+    }
+
+    @Test
+    void dispatch_unexpectedErrorBuildingMessage_isCountedAndWorkerKeepsSending() throws Exception {
+        AtomicInteger built = new AtomicInteger();
+        JavaMailSenderImpl flaky = new JavaMailSenderImpl() {
+            @Override
+            public MimeMessage createMimeMessage() {
+                if (built.incrementAndGet() == 1) {
+                    throw new IllegalStateException("broken message");
+                }
+                return super.createMimeMessage();
+            }
+        };
+        flaky.setHost("127.0.0.1");
+        flaky.setPort(smtp.port());
+        service = newService(flaky, 1, 10_000);
+
+        service.dispatch(message(1));
+        awaitFailed(1);
+        service.dispatch(message(2));
+        service.dispatch(message(3));
+
+        awaitDelivered(2);
+        assertEquals(1.0, meterRegistry.counter("mail.dispatch.messages", "result", "failed").count());
+        assertEquals(2.0, meterRegistry.counter("mail.dispatch.messages", "result", "sent").count());
+    }
+
+    @Test
+    void dispatch_whenQueueFull_sendsOnCallerThread() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        service = newService(mailSender, 0, 1);
+
+        service.dispatch(message(1));
+        SimpleMailMessage overflow = message(2);
+        service.dispatch(overflow);
+
+        assertEquals(1, service.getQueueSize());
+        verify(mailSender).send(overflow);
+        assertEquals(1.0, meterRegistry.counter("mail.dispatch.messages", "result", "sent_inline").count());
+        assertEquals(1, meterRegistry.get("notification.send").timer().count());
+    }
+
+    /**
+     * Just enough SMTP for JavaMail: no auth, no TLS, counts sessions and accepted messages.
+     */
+    private static final class FakeSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final ExecutorService sessions = Executors.newCachedThreadPool();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+        private volatile int maxMessagesPerConnection = Integer.MAX_VALUE;
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+            sessions.submit(this::acceptLoop);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    sessions.submit(() -> session(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void session(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                         StandardCharsets.US_ASCII));
+                 Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost fake ESMTP");
+                int accepted = 0;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase(Locale.ROOT);
+                    if (command.startsWith("QUIT")) {
+                        reply(out, "221 bye");
+                        return;
+                    } else if (command.startsWith("DATA")) {
+                        reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // discard the message body
+                        }
+                        messages.incrementAndGet();
+                        reply(out, "250 queued");
+                        if (++accepted >= maxMessagesPerConnection) {
+                            return; // drop the session without QUIT, like an idle timeout
+                        }
+                    } else if (command.startsWith("EHLO") || command.startsWith("HELO")
+                            || command.startsWith("MAIL") || command.startsWith("RCPT")
+                            || command.startsWith("RSET") || command.startsWith("NOOP")) {
+                        reply(out, "250 ok");
+                    } else {
+                        reply(out, "502 not implemented");
+                    }
+                }
+            } catch (IOException ignored) {
+                // client went away
+            }
+        }
+
+        private static void reply(Writer out, String line) throws IOException {
+            out.write(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            sessions.shutdownNow();
+        }
+    }
+}
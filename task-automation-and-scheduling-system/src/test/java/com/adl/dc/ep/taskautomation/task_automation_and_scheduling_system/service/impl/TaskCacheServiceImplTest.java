@@ -0,0 +1,155 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCacheServiceImplTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private UserRepository userRepository;
+
+    private TaskCacheServiceImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskCacheServiceImpl(taskRepository, userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Task task(long id, String payload) {
+        Task t = new Task();
+        t.setId(id);
+        t.setUserId(7L);
+        t.setTaskType(TaskType.HTTP_REQUEST);
+        t.setActionPayload(payload);
+        return t;
+    }
+
+    @Test
+    void getTask_readsDatabaseOnceForRepeatedFirings() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, "https://a")));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("https://a", cache.getTask(1L).orElseThrow().getActionPayload());
+        }
+
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getTask_returnsCopies() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task(1L, "https://a")));
+
+        cache.getTask(1L).orElseThrow().setActionPayload("changed by caller");
+
+        assertEquals("https://a", cache.getTask(1L).orElseThrow().getActionPayload());
+    }
+
+    @Test
+    void getTask_missingTask_isNotCached() {
+        when(taskRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(cache.getTask(2L).isEmpty());
+        assertTrue(cache.getTask(2L).isEmpty());
+
+        verify(taskRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void put_withoutTransaction_isVisibleImmediately() {
+        cache.put(task(3L, "https://new"));
+
+        assertEquals("https://new", cache.getTask(3L).orElseThrow().getActionPayload());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void put_insideTransaction_appliesOnlyAfterCommit() {
+        when(taskRepository.findById(4L)).thenReturn(Optional.of(task(4L, "https://old")));
+        cache.getTask(4L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(task(4L, "https://new"));
+
+        // evicted straight away, so a firing during the transaction reads the committed row
+        assertEquals("https://old", cache.getTask(4L).orElseThrow().getActionPayload());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals("https://new", cache.getTask(4L).orElseThrow().getActionPayload());
+        verify(taskRepository, times(2)).findById(4L);
+    }
+
+    @Test
+    void put_rolledBack_leavesNothingCached() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(task(5L, "https://never-committed"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        when(taskRepository.findById(5L)).thenReturn(Optional.of(task(5L, "https://committed")));
+
+        assertEquals("https://committed", cache.getTask(5L).orElseThrow().getActionPayload());
+    }
+
+    @Test
+    void evict_forcesReload() {
+        when(taskRepository.findById(6L)).thenReturn(Optional.of(task(6L, "https://a")));
+        cache.getTask(6L);
+
+        cache.evict(6L);
+        cache.getTask(6L);
+
+        verify(taskRepository, times(2)).findById(6L);
+    }
+
+    @Test
+    void getTask_afterTtl_reloads() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(taskRepository.findById(8L)).thenReturn(Optional.of(task(8L, "https://a")));
+
+        cache.getTask(8L);
+        cache.getTask(8L);
+
+        verify(taskRepository, times(2)).findById(8L);
+    }
+
+    @Test
+    void getUserEmail_isCached() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("owner@test.com");
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        assertEquals("owner@test.com", cache.getUserEmail(7L).orElseThrow());
+        assertEquals("owner@test.com", cache.getUserEmail(7L).orElseThrow());
+
+        verify(userRepository, times(1)).findById(7L);
+    }
+}
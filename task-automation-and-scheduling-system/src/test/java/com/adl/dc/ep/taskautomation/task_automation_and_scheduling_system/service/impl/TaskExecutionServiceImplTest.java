@@ -0,0 +1,176 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecution;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.TaskExecutionRollup;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionPageResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskExecutionRollupResponse;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.ExecutionStatus;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionRollupRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskExecutionSummary;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExecutionServiceImplTest {
+
+    @Mock private TaskExecutionRepository executionRepository;
+    @Mock private TaskExecutionRollupRepository rollupRepository;
+    @Mock private TaskCacheService taskCache;
+
+    private TaskExecutionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskExecutionServiceImpl(executionRepository, rollupRepository, taskCache);
+        ReflectionTestUtils.setField(service, "maxPageSize", 500);
+        ReflectionTestUtils.setField(service, "rollupMaxDays", 31);
+
+        User user = new User();
+        user.setId(42L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void ownedTask(Long taskId, Long userId) {
+        Task task = new Task();
+        task.setId(taskId);
+        task.setUserId(userId);
+        when(taskCache.getTask(taskId)).thenReturn(Optional.of(task));
+    }
+
+    private static TaskExecutionSummary summary(long id) {
+        TaskExecutionSummary summary = mock(TaskExecutionSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getTaskId()).thenReturn(5L);
+        when(summary.getStatus()).thenReturn(ExecutionStatus.SUCCESS);
+        return summary;
+    }
+
+    @Test
+    void getExecutions_readsSummaryProjectionByDefault() {
+        ownedTask(5L, 42L);
+        List<TaskExecutionSummary> rows = List.of(summary(30L), summary(29L), summary(28L));
+        when(executionRepository.findByTaskIdAndIdLessThanOrderByIdDesc(5L, Long.MAX_VALUE, Limit.of(3),
+                TaskExecutionSummary.class)).thenReturn(rows);
+
+        TaskExecutionPageResponse page = service.getExecutions(5L, null, 2, null, false);
+
+        assertEquals(2, page.getSize());
+        assertEquals(List.of(30L, 29L), page.getItems().stream().map(TaskExecutionResponse::getId).toList());
+        assertEquals(29L, page.getNextCursor());
+        assertNull(page.getItems().get(0).getResult());
+        verify(executionRepository, never()).findByTaskIdAndIdLessThanOrderByIdDesc(any(), any(), any(),
+                eq(TaskExecution.class));
+    }
+
+    @Test
+    void getExecutions_withDetailsAndStatus_readsFullRows() {
+        ownedTask(5L, 42L);
+        TaskExecution failed = new TaskExecution(12L, 5L, LocalDateTime.now(), LocalDateTime.now(),
+                ExecutionStatus.FAILED, "boom", null);
+        when(executionRepository.findByTaskIdAndStatusAndIdLessThanOrderByIdDesc(5L, ExecutionStatus.FAILED, 20L,
+                Limit.of(11), TaskExecution.class)).thenReturn(List.of(failed));
+
+        TaskExecutionPageResponse page = service.getExecutions(5L, 20L, 10, ExecutionStatus.FAILED, true);
+
+        assertEquals(1, page.getSize());
+        assertEquals("boom", page.getItems().get(0).getErrorMessage());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getExecutions_otherUsersTask_isDenied() {
+        ownedTask(6L, 999L);
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> service.getExecutions(6L, null, 10, null, false));
+
+        assertTrue(ex.getMessage().toLowerCase().contains("access denied"));
+        verifyNoInteractions(executionRepository);
+    }
+
+    @Test
+    void getExecution_returnsDetails() {
+        ownedTask(5L, 42L);
+        TaskExecution execution = new TaskExecution(12L, 5L, LocalDateTime.now(), LocalDateTime.now(),
+                ExecutionStatus.SUCCESS, null, "{\"ok\":true}");
+        when(executionRepository.findByIdAndTaskId(12L, 5L)).thenReturn(Optional.of(execution));
+
+        assertEquals("{\"ok\":true}", service.getExecution(5L, 12L).getResult());
+    }
+
+    @Test
+    void getExecution_unknownTask_throwsNotFound() {
+        when(taskCache.getTask(8L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getExecution(8L, 1L));
+    }
+
+    @Test
+    void getRollups_returnsBucketsOfTheRequestedSpan() {
+        ownedTask(5L, 42L);
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 2, 0, 0);
+        TaskExecutionRollup rollup = new TaskExecutionRollup();
+        rollup.setTaskId(5L);
+        rollup.setBucketStart(from.plusHours(3));
+        rollup.setExecutionCount(12);
+        rollup.setSuccessCount(11);
+        rollup.setFailureCount(1);
+        rollup.setP95DurationMs(840.0);
+        when(rollupRepository.findByTaskIdAndBucketStartBetweenOrderByBucketStart(5L, from, to))
+                .thenReturn(List.of(rollup));
+
+        List<TaskExecutionRollupResponse> rollups = service.getRollups(5L, from, to);
+
+        assertEquals(1, rollups.size());
+        assertEquals(from.plusHours(3), rollups.get(0).getBucketStart());
+        assertEquals(12, rollups.get(0).getExecutionCount());
+        assertEquals(840.0, rollups.get(0).getP95DurationMs());
+    }
+
+    @Test
+    void getRollups_spanLongerThanMax_isCapped() {
+        ownedTask(5L, 42L);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 31, 0, 0);
+
+        service.getRollups(5L, to.minusYears(1), to);
+
+        verify(rollupRepository).findByTaskIdAndBucketStartBetweenOrderByBucketStart(5L, to.minusDays(31), to);
+    }
+
+    @Test
+    void getRollups_otherUsersTask_isDenied() {
+        ownedTask(6L, 999L);
+
+        assertThrows(RuntimeException.class, () -> service.getRollups(6L, null, null));
+
+        verifyNoInteractions(rollupRepository);
+    }
+}
@@ -1,26 +1,40 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.CronSmearing;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.job.TaskExecutionJob;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.Task;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskResult;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.BulkTaskUpdateItem;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskPageResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskRequest;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.TaskResponse;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskStatus;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.enums.TaskType;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.InvalidTaskPayloadException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.TaskRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.FireTimeForecastService;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.TaskCacheService;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +50,15 @@ class TaskServiceImplTest {
     @Mock
     private Scheduler scheduler;
 
+    @Mock
+    private TaskCacheService taskCache;
+
+    @Spy
+    private CronSmearing cronSmearing = new CronSmearing();
+
+    @Mock
+    private FireTimeForecastService fireTimeForecast;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -128,6 +151,33 @@ class TaskServiceImplTest {
             CronTrigger cronTrigger = (CronTrigger) trigger;
             assertEquals("0 0/5 * * * ?", cronTrigger.getCronExpression());
             assertEquals(CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING, cronTrigger.getMisfireInstruction());
+
+            verify(taskCache).put(any(Task.class));
+            verify(fireTimeForecast).put(any(Task.class));
+        }
+    }
+
+    @Test
+    void createTask_withSmearing_schedulesSmearedCron_butKeepsTaskCron() throws Exception {
+        ReflectionTestUtils.setField(cronSmearing, "enabled", true);
+        ReflectionTestUtils.setField(cronSmearing, "windowSeconds", 3600);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+            TaskRequest request = buildRequest("Hourly", "top of the hour", "0 0 * * * ?",
+                    TaskType.HTTP_REQUEST, "https://example.com");
+            when(taskRepository.save(any(Task.class))).thenAnswer(inv -> {
+                Task t = inv.getArgument(0);
+                t.setId(7L);
+                return t;
+            });
+            ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+
+            TaskResponse response = taskService.createTask(request);
+
+            verify(scheduler).scheduleJob(any(JobDetail.class), triggerCaptor.capture());
+            String triggerCron = ((CronTrigger) triggerCaptor.getValue()).getCronExpression();
+            assertEquals(cronSmearing.smeared(7L, "0 0 * * * ?"), triggerCron);
+            assertNotEquals("0 0 * * * ?", triggerCron);
+            assertEquals("0 0 * * * ?", response.getCronExpression());
         }
     }
 
@@ -176,6 +226,7 @@ class TaskServiceImplTest {
             RuntimeException ex = assertThrows(RuntimeException.class, () -> taskService.createTask(request));
             assertTrue(ex.getMessage().contains("Failed to schedule task"));
             assertTrue(ex.getCause() instanceof SchedulerException);
+            verifyNoInteractions(taskCache);
 
             verify(taskRepository).save(any(Task.class));
             verify(scheduler).scheduleJob(any(JobDetail.class), any(Trigger.class));
@@ -205,6 +256,8 @@ class TaskServiceImplTest {
             verify(scheduler).deleteJob(JobKey.jobKey("5", "user-tasks"));
             verify(scheduler).scheduleJob(any(JobDetail.class), any(Trigger.class));
             verify(taskRepository).save(any(Task.class));
+            verify(taskCache).put(existing);
+            verify(fireTimeForecast).put(existing);
         }
     }
 
@@ -242,6 +295,8 @@ class TaskServiceImplTest {
 
             verify(scheduler).deleteJob(JobKey.jobKey("7", "user-tasks"));
             verify(taskRepository).delete(existing);
+            verify(taskCache).evict(7L);
+            verify(fireTimeForecast).remove(7L);
         }
     }
 
@@ -276,43 +331,250 @@ class TaskServiceImplTest {
     }
 
     @Test
-    void getAllUserTasks_shouldReturnOnlyMappedTasksForCurrentUser() {
+    void getTask_whenNotFound_shouldThrowResourceNotFoundException() {
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            when(taskRepository.findById(123L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> taskService.getTask(123L));
+        }
+    }
+
+    @Test
+    void getTask_whenDifferentUser_shouldThrowAccessDeniedRuntimeException() {
         try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
 
-            when(taskRepository.findByUserId(42L)).thenReturn(List.of(
-                    task(1L, 42L),
-                    task(2L, 42L)
-            ));
+            Task otherUsersTask = task(55L, 999L);
+            when(taskRepository.findById(55L)).thenReturn(Optional.of(otherUsersTask));
 
-            List<TaskResponse> list = taskService.getAllUserTasks();
+            RuntimeException ex = assertThrows(RuntimeException.class, () -> taskService.getTask(55L));
+            assertTrue(ex.getMessage().toLowerCase().contains("access denied"));
+        }
+    }
 
-            assertEquals(2, list.size());
-            assertEquals(1L, list.get(0).getId());
-            assertEquals(2L, list.get(1).getId());
+    @Test
+    void getUserTaskPage_firstPage_returnsPageAndNextCursor() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
 
-            verify(taskRepository).findByUserId(42L);
+            when(taskRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(42L, 0L, Limit.of(3)))
+                    .thenReturn(List.of(task(1L, 42L), task(2L, 42L), task(3L, 42L)));
+
+            TaskPageResponse page = taskService.getUserTaskPage(null, 2, null, null);
+
+            assertEquals(2, page.getSize());
+            assertEquals(List.of(1L, 2L), page.getItems().stream().map(TaskResponse::getId).toList());
+            assertEquals(2L, page.getNextCursor());
         }
     }
 
     @Test
-    void getTask_whenNotFound_shouldThrowResourceNotFoundException() {
+    void getUserTaskPage_lastPage_hasNoNextCursor() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
         try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
 
-            when(taskRepository.findById(123L)).thenReturn(Optional.empty());
+            when(taskRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(42L, 2L, Limit.of(3)))
+                    .thenReturn(List.of(task(3L, 42L)));
 
-            assertThrows(ResourceNotFoundException.class, () -> taskService.getTask(123L));
+            TaskPageResponse page = taskService.getUserTaskPage(2L, 2, null, null);
+
+            assertEquals(1, page.getSize());
+            assertNull(page.getNextCursor());
         }
     }
 
     @Test
-    void getTask_whenDifferentUser_shouldThrowAccessDeniedRuntimeException() {
+    void getUserTaskPage_filters_useMatchingKeysetQuery() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
         try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
 
-            Task otherUsersTask = task(55L, 999L);
-            when(taskRepository.findById(55L)).thenReturn(Optional.of(otherUsersTask));
+            when(taskRepository.findByUserIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                    42L, TaskStatus.ACTIVE, 0L, Limit.of(11))).thenReturn(List.of());
+            when(taskRepository.findByUserIdAndTaskTypeAndIdGreaterThanOrderByIdAsc(
+                    42L, TaskType.EMAIL, 0L, Limit.of(11))).thenReturn(List.of());
+            when(taskRepository.findByUserIdAndStatusAndTaskTypeAndIdGreaterThanOrderByIdAsc(
+                    42L, TaskStatus.PAUSED, TaskType.EMAIL, 0L, Limit.of(11))).thenReturn(List.of());
 
-            RuntimeException ex = assertThrows(RuntimeException.class, () -> taskService.getTask(55L));
-            assertTrue(ex.getMessage().toLowerCase().contains("access denied"));
+            assertTrue(taskService.getUserTaskPage(null, 10, TaskStatus.ACTIVE, null).getItems().isEmpty());
+            assertTrue(taskService.getUserTaskPage(null, 10, null, TaskType.EMAIL).getItems().isEmpty());
+            assertTrue(taskService.getUserTaskPage(null, 10, TaskStatus.PAUSED, TaskType.EMAIL).getItems().isEmpty());
+
+            verify(taskRepository, never()).findByUserIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+        }
+    }
+
+    @Test
+    void getUserTaskPage_sizeIsCapped() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 5);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            when(taskRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(42L, 0L, Limit.of(6)))
+                    .thenReturn(LongStream.rangeClosed(1, 6).mapToObj(id -> task(id, 42L)).toList());
+
+            TaskPageResponse page = taskService.getUserTaskPage(null, 10_000, null, null);
+
+            assertEquals(5, page.getSize());
+            assertEquals(5L, page.getNextCursor());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkCreateTasks_savesValidItems_andSchedulesThemInOneCall() throws Exception {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 1000);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            List<TaskRequest> requests = List.of(
+                    buildRequest("A", "a", "0 0/5 * * * ?", TaskType.HTTP_REQUEST, "P"),
+                    buildRequest("", "b", "0 0/5 * * * ?", TaskType.HTTP_REQUEST, "P"),
+                    buildRequest("C", "c", "not a cron", TaskType.EMAIL, "P"),
+                    buildRequest("D", "d", "0 0 * * * ?", TaskType.EMAIL, null));
+
+            when(taskRepository.saveAll(anyList())).thenAnswer(inv -> {
+                List<Task> tasks = inv.getArgument(0);
+                for (int i = 0; i < tasks.size(); i++) {
+                    tasks.get(i).setId(100L + i);
+                }
+                return tasks;
+            });
+            ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> jobs = ArgumentCaptor.forClass(Map.class);
+
+            List<BulkTaskResult> results = taskService.bulkCreateTasks(requests);
+
+            assertEquals(4, results.size());
+            assertTrue(results.get(0).isSuccess());
+            assertEquals(100L, results.get(0).getTaskId());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("Task name is required", results.get(1).getError());
+            assertFalse(results.get(2).isSuccess());
+            assertTrue(results.get(2).getError().startsWith("Invalid cron expression"));
+            assertTrue(results.get(3).isSuccess());
+            assertEquals(101L, results.get(3).getTaskId());
+            assertEquals(3, results.get(3).getIndex());
+
+            verify(scheduler).scheduleJobs(jobs.capture(), eq(false));
+            verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+            assertEquals(List.of("100", "101"),
+                    jobs.getValue().keySet().stream().map(job -> job.getKey().getName()).toList());
+            jobs.getValue().forEach((job, triggers) -> {
+                assertEquals(1, triggers.size());
+                assertEquals(job.getKey().getName(), triggers.iterator().next().getKey().getName());
+            });
+            verify(taskCache, times(2)).put(any(Task.class));
+        }
+    }
+
+    @Test
+    void bulkCreateTasks_whenSchedulerFails_shouldThrowRuntimeException() throws Exception {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 1000);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            when(taskRepository.saveAll(anyList())).thenAnswer(inv -> {
+                List<Task> tasks = inv.getArgument(0);
+                tasks.get(0).setId(1L);
+                return tasks;
+            });
+            doThrow(new SchedulerException("store down")).when(scheduler).scheduleJobs(anyMap(), anyBoolean());
+
+            RuntimeException ex = assertThrows(RuntimeException.class, () -> taskService.bulkCreateTasks(
+                    List.of(buildRequest("A", "a", "0 0/5 * * * ?", TaskType.HTTP_REQUEST, "P"))));
+
+            assertTrue(ex.getMessage().contains("Failed to schedule tasks"));
+            verifyNoInteractions(taskCache);
+        }
+    }
+
+    @Test
+    void bulkCreateTasks_tooManyItems_isRejected() {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 2);
+
+        List<TaskRequest> requests = Collections.nCopies(3,
+                buildRequest("A", "a", "0 0/5 * * * ?", TaskType.HTTP_REQUEST, "P"));
+
+        assertThrows(InvalidTaskPayloadException.class, () -> taskService.bulkCreateTasks(requests));
+        assertThrows(InvalidTaskPayloadException.class, () -> taskService.bulkCreateTasks(List.of()));
+        verifyNoInteractions(taskRepository, scheduler);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkUpdateTasks_updatesOwnedTasks_andReplacesTheirJobs() throws Exception {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 1000);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            Task own = task(1L, 42L);
+            when(taskRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(own, task(2L, 999L)));
+            when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+            ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> jobs = ArgumentCaptor.forClass(Map.class);
+
+            TaskRequest update = buildRequest("New", "d", "0/30 * * * * ?", TaskType.EMAIL, "P");
+            List<BulkTaskResult> results = taskService.bulkUpdateTasks(List.of(
+                    new BulkTaskUpdateItem(1L, update),
+                    new BulkTaskUpdateItem(2L, update),
+                    new BulkTaskUpdateItem(3L, update),
+                    new BulkTaskUpdateItem(null, update),
+                    new BulkTaskUpdateItem(1L, update)));
+
+            assertTrue(results.get(0).isSuccess());
+            assertEquals("Task not found", results.get(1).getError());
+            assertEquals("Task not found", results.get(2).getError());
+            assertEquals("Task id is required", results.get(3).getError());
+            assertEquals("Duplicate task id", results.get(4).getError());
+            assertEquals("New", own.getName());
+            assertEquals(TaskType.EMAIL, own.getTaskType());
+
+            verify(scheduler).scheduleJobs(jobs.capture(), eq(false));
+            assertEquals(1, jobs.getValue().size());
+            verify(taskCache).put(own);
+        }
+    }
+
+    @Test
+    void bulkUpdateTasks_deletesJobsFirst_soPendingRetryAndDeferredTriggersGo() throws Exception {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 1000);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            when(taskRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(task(1L, 42L), task(2L, 42L)));
+            when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            TaskRequest update = buildRequest("New", "d", "0/30 * * * * ?", TaskType.EMAIL, "P");
+            taskService.bulkUpdateTasks(List.of(new BulkTaskUpdateItem(1L, update), new BulkTaskUpdateItem(2L, update)));
+
+            // deleteJob removes every trigger of the job, retry-triggers and deferred-triggers included
+            InOrder order = inOrder(scheduler);
+            order.verify(scheduler).deleteJobs(List.of(JobKey.jobKey("1", "user-tasks"), JobKey.jobKey("2", "user-tasks")));
+            order.verify(scheduler).scheduleJobs(anyMap(), eq(false));
+        }
+    }
+
+    @Test
+    void bulkDeleteTasks_deletesOwnedTasks_andTheirJobs() throws Exception {
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 1000);
+        try (MockedStatic<SecurityContextHolder> ignored = mockLoggedUser(42L)) {
+
+            Task first = task(1L, 42L);
+            Task second = task(2L, 42L);
+            when(taskRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(first, second, task(3L, 999L)));
+
+            List<BulkTaskResult> results = taskService.bulkDeleteTasks(List.of(1L, 3L, 2L));
+
+            assertTrue(results.get(0).isSuccess());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("Task not found", results.get(1).getError());
+            assertTrue(results.get(2).isSuccess());
+
+            verify(scheduler).deleteJobs(List.of(JobKey.jobKey("1", "user-tasks"), JobKey.jobKey("2", "user-tasks")));
+            verify(taskRepository).deleteAllInBatch(argThat(tasks -> {
+                List<Task> deleted = new ArrayList<>();
+                tasks.forEach(deleted::add);
+                return deleted.equals(List.of(first, second));
+            }));
+            verify(taskCache).evict(1L);
+            verify(taskCache).evict(2L);
+            verify(taskCache, never()).evict(3L);
+            verify(fireTimeForecast).remove(1L);
+            verify(fireTimeForecast).remove(2L);
+            verify(fireTimeForecast, never()).remove(3L);
         }
     }
 }
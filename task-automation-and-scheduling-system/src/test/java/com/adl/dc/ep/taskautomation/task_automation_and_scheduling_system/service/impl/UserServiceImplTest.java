@@ -1,7 +1,9 @@
 package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
 
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.domain.User;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ResourceNotFoundException;
 import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.repository.UserRepository;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.security.UserPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +23,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -98,4 +103,47 @@ class UserServiceImplTest {
         assertEquals("User not found: " + username, ex.getMessage());
         verify(userRepository, times(1)).findByUsername(username);
     }
+
+    @Test
+    void setEnabled_false_shouldPersistAndRevoke() {
+        // ---------- Arrange ----------
+        User user = new User();
+        user.setId(5L);
+        user.setEnabled(true);
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user));
+
+        // ---------- Act ----------
+        userService.setEnabled(5L, false);
+
+        // ---------- Assert ----------
+        assertFalse(user.isEnabled());
+        verify(userRepository).save(user);
+        verify(userPrincipalCache).revoke(5L);
+        verify(userPrincipalCache, never()).invalidate(any());
+    }
+
+    @Test
+    void setEnabled_true_shouldPersistAndInvalidate() {
+        // ---------- Arrange ----------
+        User user = new User();
+        user.setId(6L);
+        user.setEnabled(false);
+        when(userRepository.findById(6L)).thenReturn(Optional.of(user));
+
+        // ---------- Act ----------
+        userService.setEnabled(6L, true);
+
+        // ---------- Assert ----------
+        assertTrue(user.isEnabled());
+        verify(userPrincipalCache).invalidate(6L);
+        verify(userPrincipalCache, never()).revoke(any());
+    }
+
+    @Test
+    void setEnabled_shouldThrow_whenUserNotFound() {
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> userService.setEnabled(7L, false));
+        verifyNoInteractions(userPrincipalCache);
+    }
 }
@@ -0,0 +1,177 @@
+package com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.impl;
+
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.dto.OpenWeatherResponseDto;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.exception.ExternalServiceException;
+import com.adl.dc.ep.taskautomation.task_automation_and_scheduling_system.service.HttpService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherServiceImplTest {
+
+    @Mock
+    private HttpService httpService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new WeatherServiceImpl(httpService, meterRegistry);
+        ReflectionTestUtils.setField(service, "weatherApiKey", "test-api-key");
+        ReflectionTestUtils.setField(service, "weatherBaseUrl", "https://api.openweathermap.org/data/2.5/weather");
+        ReflectionTestUtils.setField(service, "weatherUnits", "metric");
+        ReflectionTestUtils.setField(service, "cacheTtlSeconds", 600L);
+        ReflectionTestUtils.setField(service, "cacheMaxEntries", 100);
+    }
+
+    private static OpenWeatherResponseDto weather(double temp) {
+        OpenWeatherResponseDto.Main main = new OpenWeatherResponseDto.Main();
+        main.setTemp(temp);
+        OpenWeatherResponseDto dto = new OpenWeatherResponseDto();
+        dto.setMain(main);
+        return dto;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("weather.cache.requests", "result", result).count();
+    }
+
+    @Test
+    void getCurrentWeather_sameLocationTwice_callsUpstreamOnce() {
+        OpenWeatherResponseDto dto = weather(21.0);
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenReturn(dto);
+
+        assertSame(dto, service.getCurrentWeather("London"));
+        assertSame(dto, service.getCurrentWeather("  london "));
+
+        verify(httpService, times(1)).getForObject(anyString(), eq(OpenWeatherResponseDto.class));
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void getCurrentWeather_buildsEncodedUrlWithUnitsAndKey() {
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenReturn(weather(5.0));
+
+        service.getCurrentWeather("New York");
+
+        verify(httpService).getForObject(
+                eq("https://api.openweathermap.org/data/2.5/weather?q=New%20York&appid=test-api-key&units=metric"),
+                eq(OpenWeatherResponseDto.class));
+    }
+
+    @Test
+    void getCurrentWeather_afterTtl_refetches() {
+        ReflectionTestUtils.setField(service, "cacheTtlSeconds", 0L);
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenReturn(weather(10.0));
+
+        service.getCurrentWeather("Paris");
+        service.getCurrentWeather("Paris");
+
+        verify(httpService, times(2)).getForObject(anyString(), eq(OpenWeatherResponseDto.class));
+    }
+
+    @Test
+    void getCurrentWeather_invalidResponse_isNotCached() {
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class)))
+                .thenReturn(new OpenWeatherResponseDto())
+                .thenReturn(weather(3.0));
+
+        assertThrows(ExternalServiceException.class, () -> service.getCurrentWeather("Oslo"));
+        assertEquals(3.0, service.getCurrentWeather("Oslo").getMain().getTemp());
+
+        verify(httpService, times(2)).getForObject(anyString(), eq(OpenWeatherResponseDto.class));
+    }
+
+    @Test
+    void getCurrentWeather_concurrentFirings_shareOneUpstreamCall() throws Exception {
+        int callers = 20;
+        OpenWeatherResponseDto dto = weather(18.0);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenAnswer(inv -> {
+            assertTrue(releaseUpstream.await(10, TimeUnit.SECONDS));
+            return dto;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<OpenWeatherResponseDto>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> service.getCurrentWeather("London")));
+            }
+
+            // wait until every caller is either fetching or parked on the in-flight lookup
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (requests("miss") + requests("coalesced") + requests("hit") < callers
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseUpstream.countDown();
+
+            for (Future<OpenWeatherResponseDto> result : results) {
+                assertSame(dto, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(httpService, times(1)).getForObject(anyString(), eq(OpenWeatherResponseDto.class));
+        assertEquals(1.0, requests("miss"));
+        assertEquals(callers - 1.0, requests("coalesced") + requests("hit"));
+    }
+
+    @Test
+    void getCurrentWeather_upstreamError_releasesCoalescedCallers() throws Exception {
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenAnswer(inv -> {
+            assertTrue(releaseUpstream.await(10, TimeUnit.SECONDS));
+            throw new StackOverflowError("boom");
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<OpenWeatherResponseDto> first = pool.submit(() -> service.getCurrentWeather("London"));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (requests("miss") < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Future<OpenWeatherResponseDto> waiter = pool.submit(() -> service.getCurrentWeather("London"));
+            while (requests("coalesced") < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseUpstream.countDown();
+
+            ExecutionException fetched = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+            ExecutionException coalesced = assertThrows(ExecutionException.class, () -> waiter.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, fetched.getCause());
+            assertInstanceOf(StackOverflowError.class, coalesced.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // the failed lookup isn't left in the cache
+        reset(httpService);
+        when(httpService.getForObject(anyString(), eq(OpenWeatherResponseDto.class))).thenReturn(weather(18.0));
+        assertEquals(18.0, service.getCurrentWeather("London").getMain().getTemp());
+    }
+}